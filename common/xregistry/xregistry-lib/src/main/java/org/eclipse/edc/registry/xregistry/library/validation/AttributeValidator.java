@@ -18,17 +18,13 @@ import org.eclipse.edc.registry.xregistry.model.definition.AbstractTypeDefinitio
 import org.eclipse.edc.registry.xregistry.model.definition.AttributeDefinition;
 
 import java.util.Map;
-import java.util.Set;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static org.eclipse.edc.registry.xregistry.library.validation.AttributeValueValidator.validateArrayValues;
 import static org.eclipse.edc.registry.xregistry.library.validation.AttributeValueValidator.validateAttributeValue;
 import static org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.Mode.CLIENT;
 import static org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.Mode.SERVER;
-import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.failure;
-import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.missingProperty;
-import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.success;
-import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.ID;
 import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.ARRAY;
 import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.MAP;
 
@@ -37,67 +33,90 @@ import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.MAP;
  */
 public class AttributeValidator implements RegistryTypeValidator<AbstractTypeDefinition> {
     private RegistryValidator.Mode mode = SERVER;
+    private final ViolationLimit limit;
+
+    public AttributeValidator() {
+        this(ViolationLimit.FULL);
+    }
+
+    public AttributeValidator(ViolationLimit limit) {
+        this.limit = requireNonNull(limit, "limit");
+    }
 
     @Override
     public ValidationResult validate(Map<String, Object> entry, AbstractTypeDefinition typeDefinition) {
-        var context = calculateContext(entry, typeDefinition);
-        return typeDefinition.getAttributes().values().stream()
-                .map(attributeDefinition -> validateAttribute(entry, attributeDefinition, context))
-                .reduce(success(), ValidationResult::coalesce);
+        var builder = ValidationResult.Builder.newInstance().limit(limit);
+        for (var attributeDefinition : typeDefinition.getAttributes().values()) {
+            if (builder.isFull()) {
+                break;
+            }
+            validateAttribute(entry, attributeDefinition, entry, typeDefinition, "", builder);
+        }
+        return builder.build();
     }
 
-    private ValidationResult validateAttribute(Map<String, Object> entry,
-                                               AttributeDefinition attributeDefinition,
-                                               String context) {
-        var value = entry.get(attributeDefinition.getName());
-        if (value == null && mode == SERVER && attributeDefinition.serverRequired()) {
-            return missingProperty(context + "." + attributeDefinition.getName());
-        } else if (value == null && mode == CLIENT && attributeDefinition.clientRequired()) {
-            return missingProperty(context + "." + attributeDefinition.getName());
-        } else if (value == null) {
-            // optional
-            return success();
+    /**
+     * Validates an attribute. The context is only calculated if a violation is reported.
+     */
+    private void validateAttribute(Map<String, Object> attributes,
+                                   AttributeDefinition attributeDefinition,
+                                   Map<String, Object> entry,
+                                   AbstractTypeDefinition typeDefinition,
+                                   String path,
+                                   ValidationResult.Builder builder) {
+        var value = attributes.get(attributeDefinition.getName());
+        if (value == null) {
+            if ((mode == SERVER && attributeDefinition.serverRequired()) || (mode == CLIENT && attributeDefinition.clientRequired())) {
+                builder.violation("Missing property: " + property(entry, typeDefinition, path, attributeDefinition));
+            }
+            return;
         }
         var type = attributeDefinition.getType();
-        var result = validateAttributeValue(value, type) ? success()
-                : failure(Set.of(format("Invalid property type %s for %s: %s",
-                type.toString(),
-                context + "." + attributeDefinition.getName(),
-                value)));
-        if (!result.valid()) {
-            return result;
+        if (!validateAttributeValue(value, type)) {
+            builder.violation(format("Invalid property type %s for %s: %s",
+                    type.toString(),
+                    property(entry, typeDefinition, path, attributeDefinition),
+                    value));
+            return;
         }
         if (MAP == type) {
             @SuppressWarnings("unchecked") // cast is safe because keys are validated
             var mapValue = (Map<String, Object>) value;
-            return attributeDefinition.getAttributes()
-                    .values()
-                    .stream()
-                    .map(subAttributeDefinition -> validateAttribute(mapValue, subAttributeDefinition, context + "." + attributeDefinition.getName()))
-                    .reduce(result, ValidationResult::coalesce);
+            var subPath = path + "." + attributeDefinition.getName();
+            for (var subAttributeDefinition : attributeDefinition.getAttributes().values()) {
+                if (builder.isFull()) {
+                    return;
+                }
+                validateAttribute(mapValue, subAttributeDefinition, entry, typeDefinition, subPath, builder);
+            }
+            return;
         } else if (ARRAY == type) {
             var componentType = attributeDefinition.getComponentType();
-            return validateArrayValues(value, componentType) ? success()
-                    : failure(Set.of(format("Property %s contains an invalid element. Types must be: %s",
-                    context + "." + attributeDefinition.getName(),
-                    componentType)));
-
+            if (!validateArrayValues(value, componentType)) {
+                builder.violation(format("Property %s contains an invalid element. Types must be: %s",
+                        property(entry, typeDefinition, path, attributeDefinition),
+                        componentType));
+            }
+            return;
         }
         var constraints = attributeDefinition.getTypeConstraintsChecker().apply(value);
-        if (constraints == null) {
-            return result;
+        if (constraints != null) {
+            builder.violation(format("Invalid property type %s for %s: %s",
+                    type.toString(),
+                    property(entry, typeDefinition, path, attributeDefinition),
+                    constraints));
         }
-        return result.coalesce(failure(Set.of(format("Invalid property type %s for %s: %s",
-                type.toString(),
-                context + "." + attributeDefinition.getName(),
-                constraints))));
+    }
+
+    private String property(Map<String, Object> entry, AbstractTypeDefinition typeDefinition, String path, AttributeDefinition attributeDefinition) {
+        return calculateContext(entry, typeDefinition) + path + "." + attributeDefinition.getName();
     }
 
     /**
      * Calculates the context, including an entity ID if present.
      */
     private String calculateContext(Map<String, Object> entry, AbstractTypeDefinition typeDefinition) {
-        var entityId = entry.get(typeDefinition.getSingular() + ID);
+        var entityId = entry.get(typeDefinition.getIdKey());
         return typeDefinition.getContext() + (entityId != null ? "[" + entityId + "]" : "");
     }
 
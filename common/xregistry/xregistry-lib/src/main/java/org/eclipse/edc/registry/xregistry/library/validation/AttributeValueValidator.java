@@ -86,6 +86,13 @@ public class AttributeValueValidator {
         return VALIDATORS.get(type).test(value);
     }
 
+    /**
+     * Returns the validator for the type.
+     */
+    static Predicate<Object> validatorFor(ValueType type) {
+        return VALIDATORS.get(requireNonNull(type, "type"));
+    }
+
     public static boolean validateArrayValues(Object value, ValueType componentType) {
         requireNonNull(componentType, "componentType");
         if (!VALIDATORS.get(ARRAY).test(value)) {
@@ -24,59 +24,72 @@ import java.util.Set;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.invalidType;
-import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.success;
 
 /**
  * Validates a group entry.
  */
 public class GroupValidator implements RegistryTypeValidator<GroupDefinition> {
     private RegistryTypeValidator<AbstractTypeDefinition> attributeValidator;
+    private ViolationLimit limit;
 
     public GroupValidator(RegistryTypeValidator<AbstractTypeDefinition> attributeValidator) {
+        this(attributeValidator, ViolationLimit.FULL);
+    }
+
+    public GroupValidator(RegistryTypeValidator<AbstractTypeDefinition> attributeValidator, ViolationLimit limit) {
         this.attributeValidator = requireNonNull(attributeValidator, "attributeValidator");
+        this.limit = requireNonNull(limit, "limit");
     }
 
     @Override
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public ValidationResult validate(Map<String, Object> groupContainer, GroupDefinition groupDefinition) {
-        return groupContainer.entrySet().stream().map(groupEntry -> {
+        var builder = ValidationResult.Builder.newInstance().limit(limit);
+        for (var groupEntry : groupContainer.entrySet()) {
+            if (builder.isFull()) {
+                break;
+            }
             if (!(groupEntry.getValue() instanceof Map groupMap)) {
                 // groups must be a map
-                return invalidType(format("%s[%s]", groupDefinition.getContext(), groupEntry.getKey()));
+                builder.result(invalidType(format("%s[%s]", groupDefinition.getContext(), groupEntry.getKey())));
+                continue;
             }
-            var result = attributeValidator.validate(groupMap, groupDefinition);
-            return groupDefinition.getResources().values().stream().map(resourceDefinition -> {
+            builder.result(attributeValidator.validate(groupMap, groupDefinition));
+            for (var resourceDefinition : groupDefinition.getResources().values()) {
                 var resources = groupMap.get(resourceDefinition.getPlural());
                 if (resources == null) {
-                    return success();
+                    continue;
                 }
                 if (!(resources instanceof Map resourceMap)) {
                     var context = format("%s[%s].%s",
                             groupDefinition.getContext(),
                             groupEntry.getKey(),
                             resourceDefinition.getPlural());
-                    return invalidType(context);
+                    builder.result(invalidType(context));
+                    continue;
                 }
                 Set<Map.Entry> resourceSet = resourceMap.entrySet();
-                return resourceSet.stream()
-                        .map(resourceEntry -> validateResource(
-                                resourceEntry,
-                                groupDefinition.getContext(),
-                                groupEntry.getKey(),
-                                resourceDefinition))
-                        .reduce(success(), ValidationResult::coalesce);
-            }).reduce(result, ValidationResult::coalesce);
-        }).reduce(success(), ValidationResult::coalesce);
+                for (var resourceEntry : resourceSet) {
+                    if (builder.isFull()) {
+                        return builder.build();
+                    }
+                    validateResource(resourceEntry, groupDefinition.getContext(), groupEntry.getKey(), resourceDefinition, builder);
+                }
+            }
+        }
+        return builder.build();
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private ValidationResult validateResource(Map.Entry<String, Object> resourceEntry,
-                                              String rootContext,
-                                              String groupKey,
-                                              ResourceDefinition resourceDefinition) {
+    private void validateResource(Map.Entry<String, Object> resourceEntry,
+                                  String rootContext,
+                                  String groupKey,
+                                  ResourceDefinition resourceDefinition,
+                                  ValidationResult.Builder builder) {
         if (!(resourceEntry.getValue() instanceof Map resourceEntryMap)) {
             var context = format("%s.%s[%s]", rootContext, resourceDefinition.getPlural(), resourceEntry.getKey());
-            return invalidType(context);
+            builder.result(invalidType(context));
+            return;
         }
         // validate the resource
         var resourceResult = attributeValidator.validate(resourceEntryMap, resourceDefinition);
@@ -84,7 +97,8 @@ public class GroupValidator implements RegistryTypeValidator<GroupDefinition> {
         // validate resource versions
         var versions = resourceEntryMap.get("versions");
         if (versions == null) {
-            return resourceResult;
+            builder.result(resourceResult);
+            return;
         }
         if (!(versions instanceof Map versionMap)) {
             var context = format("%s[%s].%s[%s].versions",
@@ -92,20 +106,26 @@ public class GroupValidator implements RegistryTypeValidator<GroupDefinition> {
                     groupKey,
                     resourceDefinition.getPlural(),
                     resourceEntry.getKey());
-            return invalidType(context);
+            builder.result(invalidType(context));
+            return;
         }
+        builder.result(resourceResult);
         Set<Map.Entry<String, Object>> versionSet = versionMap.entrySet();
-        return versionSet.stream().map(versionEntry -> {
+        for (var versionEntry : versionSet) {
+            if (builder.isFull()) {
+                return;
+            }
             if (!(versionEntry.getValue() instanceof Map versionEntryMap)) {
                 var context = format("%s.%s[%s].[%s]",
                         rootContext,
                         resourceDefinition.getPlural(),
                         resourceEntry.getKey(),
                         versionEntry.getKey());
-                return invalidType(context);
+                builder.result(invalidType(context));
+                continue;
             }
-            return attributeValidator.validate(versionEntryMap, resourceDefinition.getVersionDefinition());
-        }).reduce(resourceResult, ValidationResult::coalesce);
+            builder.result(attributeValidator.validate(versionEntryMap, resourceDefinition.getVersionDefinition()));
+        }
     }
 
-}
\ No newline at end of file
+}
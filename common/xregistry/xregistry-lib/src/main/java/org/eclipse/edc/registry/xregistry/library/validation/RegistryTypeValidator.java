@@ -26,6 +26,36 @@ public interface RegistryTypeValidator<T extends AbstractTypeDefinition> {
         CLIENT, SERVER
     }
 
+    /**
+     * Limits the number of violations collected before validation stops.
+     *
+     * @param maxViolations the maximum number of violations, at least one
+     */
+    record ViolationLimit(int maxViolations) {
+        /**
+         * Collects all violations.
+         */
+        public static final ViolationLimit FULL = new ViolationLimit(Integer.MAX_VALUE);
+
+        /**
+         * Stops at the first violation.
+         */
+        public static final ViolationLimit FAIL_FAST = new ViolationLimit(1);
+
+        public ViolationLimit {
+            if (maxViolations < 1) {
+                throw new IllegalArgumentException("The maximum number of violations must be at least 1: " + maxViolations);
+            }
+        }
+
+        /**
+         * Stops once the given number of violations has been collected.
+         */
+        public static ViolationLimit max(int maxViolations) {
+            return new ViolationLimit(maxViolations);
+        }
+    }
+
     /**
      * Validates the entry.
      */
@@ -22,7 +22,6 @@ import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.invalidType;
-import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.success;
 
 /**
  * Validates a registry entry.
@@ -30,33 +29,49 @@ import static org.eclipse.edc.registry.xregistry.library.validation.ValidationRe
 public class RegistryValidator implements RegistryTypeValidator<RegistryDefinition> {
     private RegistryTypeValidator<AbstractTypeDefinition> attributeValidator;
     private RegistryTypeValidator<GroupDefinition> groupValidator;
+    private ViolationLimit limit;
 
     public RegistryValidator(RegistryTypeValidator<GroupDefinition> groupValidator,
                              RegistryTypeValidator<AbstractTypeDefinition> attributeValidator) {
+        this(groupValidator, attributeValidator, ViolationLimit.FULL);
+    }
+
+    /**
+     * Creates a validator that stops once the limit is reached. The delegate validators should be configured with the
+     * same limit so that they stop early as well.
+     */
+    public RegistryValidator(RegistryTypeValidator<GroupDefinition> groupValidator,
+                             RegistryTypeValidator<AbstractTypeDefinition> attributeValidator,
+                             ViolationLimit limit) {
         this.groupValidator = requireNonNull(groupValidator, "groupValidator");
         this.attributeValidator = requireNonNull(attributeValidator, "attributeValidator");
+        this.limit = requireNonNull(limit, "limit");
     }
 
     public ValidationResult validate(Map<String, Object> registry, RegistryDefinition registryDefinition) {
-        var result = attributeValidator.validate(registry, registryDefinition);
+        var builder = ValidationResult.Builder.newInstance()
+                .limit(limit)
+                .result(attributeValidator.validate(registry, registryDefinition));
 
         // validate groups
-        return registryDefinition.getGroups().values().stream()
-                .map(groupDefinition -> {
-                    var groupName = groupDefinition.getPlural();
-                    var group = registry.get(groupName);
-                    if (group == null) {
-                        return success();
-                    }
-                    //noinspection rawtypes
-                    if (group instanceof Map m) {
-                        //noinspection unchecked
-                        return groupValidator.validate(m, groupDefinition);
-                    } else {
-                        return invalidType("Registry." + groupName);
-                    }
-                })
-                .reduce(result, ValidationResult::coalesce);
+        for (var groupDefinition : registryDefinition.getGroups().values()) {
+            if (builder.isFull()) {
+                break;
+            }
+            var groupName = groupDefinition.getPlural();
+            var group = registry.get(groupName);
+            if (group == null) {
+                continue;
+            }
+            //noinspection rawtypes
+            if (group instanceof Map m) {
+                //noinspection unchecked
+                builder.result(groupValidator.validate(m, groupDefinition));
+            } else {
+                builder.result(invalidType("Registry." + groupName));
+            }
+        }
+        return builder.build();
     }
 
 
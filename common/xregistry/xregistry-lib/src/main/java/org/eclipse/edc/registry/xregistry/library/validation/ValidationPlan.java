@@ -0,0 +1,472 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.library.validation;
+
+import org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.ViolationLimit;
+import org.eclipse.edc.registry.xregistry.model.definition.AbstractTypeDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.AttributeDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.registry.xregistry.library.validation.AttributeValueValidator.validatorFor;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.VERSIONS;
+import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.ARRAY;
+import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.MAP;
+
+/**
+ * A validation plan compiled from a {@link RegistryDefinition}.
+ * <p>
+ * Compilation resolves attribute definitions, value validators and context strings once, so a plan can be reused to
+ * validate registry data across reconciliation cycles. Validation produces the same violations as
+ * {@link RegistryValidator}, {@link GroupValidator} and {@link AttributeValidator} in server mode. Violation messages
+ * are only created when a check fails, so validating conforming data does not allocate per attribute. Plans are
+ * immutable and thread-safe, and large registries can be validated in parallel on an executor.
+ */
+public class ValidationPlan {
+    private static final String REGISTRY_CONTEXT = "Registry";
+    private static final int RESOURCE_BATCH_SIZE = 256;
+
+    private final RegistryDefinition definition;
+    private final ViolationLimit limit;
+    private final TypePlan registryPlan;
+    private final Map<String, GroupPlan> groupPlans;
+    private final GroupPlan[] groupPlanArray;
+
+    /**
+     * Compiles a plan for the registry definition that reports all violations.
+     */
+    public static ValidationPlan compile(RegistryDefinition definition) {
+        return compile(definition, ViolationLimit.FULL);
+    }
+
+    /**
+     * Compiles a plan for the registry definition that stops validating once the limit is reached.
+     */
+    public static ValidationPlan compile(RegistryDefinition definition, ViolationLimit limit) {
+        return new ValidationPlan(requireNonNull(definition, "definition"), requireNonNull(limit, "limit"));
+    }
+
+    public RegistryDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Validates a registry.
+     */
+    public ValidationResult validate(Map<String, Object> registry) {
+        var violations = ValidationResult.Builder.newInstance().limit(limit);
+        validateType(registry, registryPlan, violations);
+        for (var groupPlan : groupPlanArray) {
+            if (violations.isFull()) {
+                break;
+            }
+            var groupContainer = registry.get(groupPlan.plural);
+            if (groupContainer == null) {
+                continue;
+            }
+            if (groupContainer instanceof Map<?, ?> groups) {
+                validateGroups(groups, groupPlan, violations);
+            } else {
+                violations.violation("Invalid type for " + REGISTRY_CONTEXT + "." + groupPlan.plural);
+            }
+        }
+        return violations.build();
+    }
+
+    /**
+     * Validates the registry-level attributes.
+     */
+    public ValidationResult validateAttributes(Map<String, Object> registry) {
+        var violations = ValidationResult.Builder.newInstance().limit(limit);
+        validateType(registry, registryPlan, violations);
+        return violations.build();
+    }
+
+    /**
+     * Validates a group container, i.e. groups keyed by id.
+     *
+     * @param plural         the plural name of the group type
+     * @param groupContainer the groups
+     */
+    public ValidationResult validateGroups(String plural, Map<String, Object> groupContainer) {
+        var groupPlan = groupPlan(plural);
+        var violations = ValidationResult.Builder.newInstance().limit(limit);
+        validateGroups(groupContainer, groupPlan, violations);
+        return violations.build();
+    }
+
+    /**
+     * Validates the attributes of a group, excluding its resources.
+     *
+     * @param plural the plural name of the group type
+     * @param group  the group
+     */
+    public ValidationResult validateGroupAttributes(String plural, Map<String, Object> group) {
+        var violations = ValidationResult.Builder.newInstance().limit(limit);
+        validateType(group, groupPlan(plural).type, violations);
+        return violations.build();
+    }
+
+    /**
+     * Validates a resource and its versions.
+     *
+     * @param plural         the plural name of the group type
+     * @param groupId        the id of the group containing the resource
+     * @param resourcePlural the plural name of the resource type
+     * @param resourceId     the id of the resource
+     * @param resource       the resource
+     */
+    public ValidationResult validateResource(String plural, String groupId, String resourcePlural, String resourceId, Object resource) {
+        var groupPlan = groupPlan(plural);
+        for (var resourcePlan : groupPlan.resources) {
+            if (resourcePlan.plural.equals(resourcePlural)) {
+                var violations = ValidationResult.Builder.newInstance().limit(limit);
+                validateResource(Map.entry(resourceId, resource), groupId, groupPlan, resourcePlan, violations);
+                return violations.build();
+            }
+        }
+        throw new IllegalArgumentException("Unknown resource type: " + resourcePlural);
+    }
+
+    /**
+     * Validates a registry in parallel. Registry attributes, group attributes and batches of resources are validated
+     * as separate tasks on the executor. Violations are reported in the same order as {@link #validate(Map)}, and
+     * tasks following one that has reached the violation limit are skipped.
+     */
+    public ValidationResult validate(Map<String, Object> registry, Executor executor) {
+        var tasks = new ArrayList<Consumer<ValidationResult.Builder>>();
+        tasks.add(violations -> validateType(registry, registryPlan, violations));
+        for (var groupPlan : groupPlanArray) {
+            var groupContainer = registry.get(groupPlan.plural);
+            if (groupContainer == null) {
+                continue;
+            }
+            if (groupContainer instanceof Map<?, ?> groups) {
+                addGroupTasks(groups, groupPlan, tasks);
+            } else {
+                tasks.add(violations -> violations.violation("Invalid type for " + REGISTRY_CONTEXT + "." + groupPlan.plural));
+            }
+        }
+        return execute(tasks, executor);
+    }
+
+    /**
+     * Validates a group container in parallel.
+     *
+     * @see #validate(Map, Executor)
+     */
+    public ValidationResult validateGroups(String plural, Map<String, Object> groupContainer, Executor executor) {
+        var groupPlan = groupPlan(plural);
+        var tasks = new ArrayList<Consumer<ValidationResult.Builder>>();
+        addGroupTasks(groupContainer, groupPlan, tasks);
+        return execute(tasks, executor);
+    }
+
+    private GroupPlan groupPlan(String plural) {
+        var groupPlan = groupPlans.get(plural);
+        if (groupPlan == null) {
+            throw new IllegalArgumentException("Unknown group type: " + plural);
+        }
+        return groupPlan;
+    }
+
+    private void addGroupTasks(Map<?, ?> groups, GroupPlan groupPlan, List<Consumer<ValidationResult.Builder>> tasks) {
+        for (var groupEntry : groups.entrySet()) {
+            if (!(groupEntry.getValue() instanceof Map<?, ?> group)) {
+                tasks.add(violations -> violations.violation("Invalid type for " + format("%s[%s]", groupPlan.type.context, groupEntry.getKey())));
+                continue;
+            }
+            tasks.add(violations -> validateType(group, groupPlan.type, violations));
+            for (var resourcePlan : groupPlan.resources) {
+                var resources = group.get(resourcePlan.plural);
+                if (resources == null) {
+                    continue;
+                }
+                if (!(resources instanceof Map<?, ?> resourceMap)) {
+                    tasks.add(violations -> violations.violation("Invalid type for " + format("%s[%s].%s", groupPlan.type.context, groupEntry.getKey(), resourcePlan.plural)));
+                    continue;
+                }
+                var batch = new ArrayList<Map.Entry<?, ?>>(RESOURCE_BATCH_SIZE);
+                for (var resourceEntry : resourceMap.entrySet()) {
+                    batch.add(resourceEntry);
+                    if (batch.size() == RESOURCE_BATCH_SIZE) {
+                        tasks.add(resourceBatchTask(batch, groupEntry.getKey(), groupPlan, resourcePlan));
+                        batch = new ArrayList<>(RESOURCE_BATCH_SIZE);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    tasks.add(resourceBatchTask(batch, groupEntry.getKey(), groupPlan, resourcePlan));
+                }
+            }
+        }
+    }
+
+    private Consumer<ValidationResult.Builder> resourceBatchTask(List<Map.Entry<?, ?>> batch, Object groupKey, GroupPlan groupPlan, ResourcePlan resourcePlan) {
+        return violations -> {
+            for (var resourceEntry : batch) {
+                if (violations.isFull()) {
+                    return;
+                }
+                validateResource(resourceEntry, groupKey, groupPlan, resourcePlan, violations);
+            }
+        };
+    }
+
+    /**
+     * Runs the tasks on the executor and merges their violations in task order.
+     */
+    private ValidationResult execute(List<Consumer<ValidationResult.Builder>> tasks, Executor executor) {
+        var results = new ValidationResult[tasks.size()];
+        var firstFull = new AtomicInteger(Integer.MAX_VALUE);
+        var futures = new CompletableFuture<?>[tasks.size()];
+        for (var i = 0; i < futures.length; i++) {
+            var index = i;
+            var task = tasks.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                if (index > firstFull.get()) {
+                    // a preceding task reached the limit, so the violations of this task cannot be reported
+                    return;
+                }
+                var violations = ValidationResult.Builder.newInstance().limit(limit);
+                task.accept(violations);
+                if (violations.isFull()) {
+                    firstFull.accumulateAndGet(index, Math::min);
+                }
+                results[index] = violations.build();
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        var violations = ValidationResult.Builder.newInstance().limit(limit);
+        for (var result : results) {
+            if (violations.isFull()) {
+                break;
+            }
+            if (result != null) {
+                violations.result(result);
+            }
+        }
+        return violations.build();
+    }
+
+    private void validateGroups(Map<?, ?> groups, GroupPlan groupPlan, ValidationResult.Builder violations) {
+        for (var groupEntry : groups.entrySet()) {
+            if (violations.isFull()) {
+                return;
+            }
+            if (!(groupEntry.getValue() instanceof Map<?, ?> group)) {
+                violations.violation("Invalid type for " + format("%s[%s]", groupPlan.type.context, groupEntry.getKey()));
+                continue;
+            }
+            validateType(group, groupPlan.type, violations);
+            for (var resourcePlan : groupPlan.resources) {
+                var resources = group.get(resourcePlan.plural);
+                if (resources == null) {
+                    continue;
+                }
+                if (!(resources instanceof Map<?, ?> resourceMap)) {
+                    violations.violation("Invalid type for " + format("%s[%s].%s", groupPlan.type.context, groupEntry.getKey(), resourcePlan.plural));
+                    continue;
+                }
+                for (var resourceEntry : resourceMap.entrySet()) {
+                    if (violations.isFull()) {
+                        return;
+                    }
+                    validateResource(resourceEntry, groupEntry.getKey(), groupPlan, resourcePlan, violations);
+                }
+            }
+        }
+    }
+
+    private void validateResource(Map.Entry<?, ?> resourceEntry,
+                                  Object groupKey,
+                                  GroupPlan groupPlan,
+                                  ResourcePlan resourcePlan,
+                                  ValidationResult.Builder violations) {
+        var rootContext = groupPlan.type.context;
+        if (!(resourceEntry.getValue() instanceof Map<?, ?> resource)) {
+            violations.violation("Invalid type for " + format("%s.%s[%s]", rootContext, resourcePlan.plural, resourceEntry.getKey()));
+            return;
+        }
+        validateType(resource, resourcePlan.type, violations);
+        var versions = resource.get(VERSIONS);
+        if (versions == null) {
+            return;
+        }
+        if (!(versions instanceof Map<?, ?> versionMap)) {
+            violations.violation("Invalid type for " + format("%s[%s].%s[%s].versions", rootContext, groupKey, resourcePlan.plural, resourceEntry.getKey()));
+            return;
+        }
+        for (var versionEntry : versionMap.entrySet()) {
+            if (violations.isFull()) {
+                return;
+            }
+            if (versionEntry.getValue() instanceof Map<?, ?> version) {
+                validateType(version, resourcePlan.version, violations);
+            } else {
+                violations.violation("Invalid type for " + format("%s.%s[%s].[%s]", rootContext, resourcePlan.plural, resourceEntry.getKey(), versionEntry.getKey()));
+            }
+        }
+    }
+
+    private void validateType(Map<?, ?> entry, TypePlan plan, ValidationResult.Builder violations) {
+        validateAttributes(entry, entry, plan, plan.checks, violations);
+    }
+
+    private void validateAttributes(Map<?, ?> attributes, Map<?, ?> entry, TypePlan plan, AttributeCheck[] checks, ValidationResult.Builder violations) {
+        for (var check : checks) {
+            if (violations.isFull()) {
+                return;
+            }
+            var value = attributes.get(check.name);
+            if (value == null) {
+                if (check.required) {
+                    violations.violation("Missing property: " + plan.context(entry) + check.path);
+                }
+            } else if (!check.typeValidator.test(value)) {
+                violations.violation(format("Invalid property type %s for %s: %s", check.type, plan.context(entry) + check.path, value));
+            } else if (check.nested != null) {
+                validateAttributes((Map<?, ?>) value, entry, plan, check.nested, violations);
+            } else if (check.componentValidator != null) {
+                if (!validElements((List<?>) value, check.componentValidator)) {
+                    violations.violation(format("Property %s contains an invalid element. Types must be: %s", plan.context(entry) + check.path, check.componentType));
+                }
+            } else {
+                var constraints = check.constraints.apply(value);
+                if (constraints != null) {
+                    violations.violation(format("Invalid property type %s for %s: %s", check.type, plan.context(entry) + check.path, constraints));
+                }
+            }
+        }
+    }
+
+    private boolean validElements(List<?> elements, Predicate<Object> validator) {
+        for (var element : elements) {
+            if (!validator.test(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ValidationPlan(RegistryDefinition definition, ViolationLimit limit) {
+        this.definition = definition;
+        this.limit = limit;
+        registryPlan = compileType(definition);
+        groupPlanArray = definition.getGroups().values().stream().map(this::compileGroup).toArray(GroupPlan[]::new);
+        var plans = new HashMap<String, GroupPlan>();
+        for (var groupPlan : groupPlanArray) {
+            plans.put(groupPlan.plural, groupPlan);
+        }
+        groupPlans = Map.copyOf(plans);
+    }
+
+    private GroupPlan compileGroup(GroupDefinition groupDefinition) {
+        var resources = groupDefinition.getResources().values().stream()
+                .map(this::compileResource)
+                .toArray(ResourcePlan[]::new);
+        return new GroupPlan(groupDefinition.getPlural(), compileType(groupDefinition), resources);
+    }
+
+    private ResourcePlan compileResource(ResourceDefinition resourceDefinition) {
+        return new ResourcePlan(resourceDefinition.getPlural(),
+                compileType(resourceDefinition),
+                compileType(resourceDefinition.getVersionDefinition()));
+    }
+
+    private TypePlan compileType(AbstractTypeDefinition typeDefinition) {
+        return new TypePlan(typeDefinition.getContext(),
+                typeDefinition.getIdKey(),
+                compileChecks(typeDefinition.getAttributes().values(), ""));
+    }
+
+    private AttributeCheck[] compileChecks(Collection<AttributeDefinition> attributeDefinitions, String parentPath) {
+        return attributeDefinitions.stream()
+                .map(attributeDefinition -> compileCheck(attributeDefinition, parentPath))
+                .toArray(AttributeCheck[]::new);
+    }
+
+    private AttributeCheck compileCheck(AttributeDefinition attributeDefinition, String parentPath) {
+        var type = requireNonNull(attributeDefinition.getType(), "type");
+        var path = parentPath + "." + attributeDefinition.getName();
+        var nested = type == MAP ? compileChecks(attributeDefinition.getAttributes().values(), path) : null;
+        var componentValidator = type == ARRAY ? validatorFor(attributeDefinition.getComponentType()) : null;
+        return new AttributeCheck(attributeDefinition.getName(),
+                path,
+                type,
+                validatorFor(type),
+                attributeDefinition.serverRequired(),
+                attributeDefinition.getComponentType(),
+                componentValidator,
+                attributeDefinition.getTypeConstraintsChecker(),
+                nested);
+    }
+
+    /**
+     * The compiled checks for a type.
+     */
+    private record TypePlan(String context, String idKey, AttributeCheck[] checks) {
+
+        /**
+         * Returns the validation context, including an entity ID if present.
+         */
+        String context(Map<?, ?> entry) {
+            var entityId = entry.get(idKey);
+            return context + (entityId != null ? "[" + entityId + "]" : "");
+        }
+    }
+
+    private record GroupPlan(String plural, TypePlan type, ResourcePlan[] resources) {
+    }
+
+    private record ResourcePlan(String plural, TypePlan type, TypePlan version) {
+    }
+
+    /**
+     * A pre-resolved attribute check. The path is relative to the context of the containing type.
+     */
+    private record AttributeCheck(String name,
+                                  String path,
+                                  Object type,
+                                  Predicate<Object> typeValidator,
+                                  boolean required,
+                                  Object componentType,
+                                  Predicate<Object> componentValidator,
+                                  Function<Object, String> constraints,
+                                  AttributeCheck[] nested) {
+    }
+}
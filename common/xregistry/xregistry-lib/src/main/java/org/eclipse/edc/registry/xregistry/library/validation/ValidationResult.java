@@ -14,6 +14,9 @@
 
 package org.eclipse.edc.registry.xregistry.library.validation;
 
+import org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.ViolationLimit;
+
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -21,13 +24,17 @@ import static java.lang.String.format;
 
 /**
  * The result of a validation operation.
+ * <p>
+ * Results are immutable. Successful validations share a single instance, and a {@link Builder} only allocates a
+ * violation set once the first violation is added, so validating conforming data does not create garbage.
  */
 public class ValidationResult {
-    private boolean valid;
-    private Set<String> violations = new LinkedHashSet<>();
+    private static final ValidationResult SUCCESS = new ValidationResult(Set.of());
+
+    private final Set<String> violations;
 
     public boolean valid() {
-        return valid;
+        return violations.isEmpty();
     }
 
     public Set<String> violations() {
@@ -35,23 +42,26 @@ public class ValidationResult {
     }
 
     /**
-     * Coalesces this validation with the other by adding violations, if present.
+     * Coalesces this validation with the other by combining violations, if present. Neither result is modified.
      */
     public ValidationResult coalesce(ValidationResult other) {
         if (other.valid()) {
             return this;
+        } else if (valid()) {
+            return other;
         }
-        valid = false;
-        violations.addAll(other.violations);
-        return this;
+        return Builder.newInstance().result(this).result(other).build();
     }
 
     public static ValidationResult success() {
-        return new ValidationResult();
+        return SUCCESS;
     }
 
     public static ValidationResult failure(Set<String> violations) {
-        return new ValidationResult(violations);
+        if (violations.isEmpty()) {
+            throw new IllegalArgumentException("A failure requires at least one violation");
+        }
+        return new ValidationResult(Collections.unmodifiableSet(new LinkedHashSet<>(violations)));
     }
 
     public static ValidationResult missingProperty(String property) {
@@ -66,12 +76,68 @@ public class ValidationResult {
         return new ValidationResult(Set.of(format("Invalid type for " + property)));
     }
 
-    private ValidationResult() {
-        this.valid = true;
+    private ValidationResult(Set<String> violations) {
+        this.violations = violations;
     }
 
-    private ValidationResult(Set<String> violations) {
-        this.valid = false;
-        this.violations.addAll(violations);
+    /**
+     * Collects violations in the order they are reported. If a limit is set, further violations are ignored once it
+     * has been reached.
+     */
+    public static class Builder {
+        private Set<String> violations;
+        private int maxViolations = Integer.MAX_VALUE;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder limit(ViolationLimit limit) {
+            this.maxViolations = limit.maxViolations();
+            return this;
+        }
+
+        public Builder violation(String violation) {
+            if (violations == null) {
+                violations = new LinkedHashSet<>();
+            }
+            if (violations.size() < maxViolations) {
+                violations.add(violation);
+            }
+            return this;
+        }
+
+        public Builder result(ValidationResult result) {
+            for (var violation : result.violations) {
+                if (isFull()) {
+                    break;
+                }
+                violation(violation);
+            }
+            return this;
+        }
+
+        public boolean valid() {
+            return violations == null;
+        }
+
+        /**
+         * Returns true if the violation limit has been reached and validation can stop.
+         */
+        public boolean isFull() {
+            return violations != null && violations.size() >= maxViolations;
+        }
+
+        public ValidationResult build() {
+            if (violations == null) {
+                return SUCCESS;
+            }
+            var result = new ValidationResult(Collections.unmodifiableSet(violations));
+            violations = null;
+            return result;
+        }
+
+        private Builder() {
+        }
     }
 }
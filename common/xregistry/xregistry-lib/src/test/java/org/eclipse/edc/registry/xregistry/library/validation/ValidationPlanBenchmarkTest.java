@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.library.validation;
+
+import com.sun.management.ThreadMXBean;
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the throughput and allocation of the validators and a compiled {@link ValidationPlan} against a large
+ * synthetic registry. Allocation is only measured on the calling thread, so it is not reported for parallel validation.
+ */
+@NightlyTest
+class ValidationPlanBenchmarkTest {
+    private static final int GROUPS = 500;
+    private static final int RESOURCES_PER_GROUP = 100;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 10;
+
+    private RegistryDefinition definition;
+    private Map<String, Object> registry;
+
+    @Test
+    void compare_validation() {
+        var attributeValidator = new AttributeValidator();
+        var registryValidator = new RegistryValidator(new GroupValidator(attributeValidator), attributeValidator);
+        var plan = ValidationPlan.compile(definition);
+
+        var validators = measure(() -> registryValidator.validate(registry, definition));
+        var compiled = measure(() -> plan.validate(registry));
+        var pool = new ForkJoinPool();
+        Measurement parallel;
+        try {
+            parallel = measure(() -> plan.validate(registry, pool));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(validators.nanos()).isPositive();
+        assertThat(compiled.nanos()).isPositive();
+        assertThat(parallel.nanos()).isPositive();
+        assertThat(compiled.bytes()).isLessThanOrEqualTo(validators.bytes());
+    }
+
+    @BeforeEach
+    void setUp() {
+        definition = ValidationPlanTest.definition();
+        registry = ValidationPlanTest.registry(GROUPS, RESOURCES_PER_GROUP);
+    }
+
+    private Measurement measure(Supplier<ValidationResult> validation) {
+        for (var i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(validation.get().valid()).isTrue();
+        }
+        var threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var startBytes = threadBean.getCurrentThreadAllocatedBytes();
+        var start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            assertThat(validation.get().valid()).isTrue();
+        }
+        var nanos = (System.nanoTime() - start) / ITERATIONS;
+        var bytes = (threadBean.getCurrentThreadAllocatedBytes() - startBytes) / ITERATIONS;
+        return new Measurement(nanos, bytes);
+    }
+
+    private record Measurement(long nanos, long bytes) {
+    }
+}
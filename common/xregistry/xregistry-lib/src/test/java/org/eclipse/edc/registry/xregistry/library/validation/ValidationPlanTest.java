@@ -0,0 +1,330 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.library.validation;
+
+import org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.ViolationLimit;
+import org.eclipse.edc.registry.xregistry.model.definition.AttributeDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.ARRAY;
+import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.MAP;
+import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.STRING;
+
+class ValidationPlanTest {
+    private static final String TIMESTAMP = "2024-12-19T06:00:00Z";
+
+    private RegistryDefinition definition;
+    private ValidationPlan plan;
+    private RegistryValidator registryValidator;
+
+    @Test
+    void verify_validRegistry() {
+        var registry = registry(2, 3);
+
+        var result = plan.validate(registry);
+
+        assertThat(result.valid()).isTrue();
+        assertThat(result.violations()).isEmpty();
+        assertThat(registryValidator.validate(registry, definition).valid()).isTrue();
+    }
+
+    @Test
+    void verify_missingAttributes_matchesValidator() {
+        var registry = registry(1, 2);
+        registry.remove("registryid");
+        var resource = resource(registry, "group0", "resource1");
+        resource.remove("self");
+
+        assertParity(registry);
+        assertThat(plan.validate(registry).violations()).containsExactlyInAnyOrder(
+                "Missing property: Registry.registryid",
+                "Missing property: Registry.foogroups.foo[resource1].self");
+    }
+
+    @Test
+    void verify_invalidTypes_matchesValidator() {
+        var registry = registry(1, 2);
+        registry.put("epoch", "one");
+        var resource = resource(registry, "group0", "resource0");
+        resource.put("tags", "tag");
+        resource.put("details", Map.of("Owner", "owner"));
+        resource.put("label", "INVALID");
+
+        assertParity(registry);
+        assertThat(plan.validate(registry).violations()).containsExactlyInAnyOrder(
+                "Invalid property type UINTEGER for Registry[sample].epoch: one",
+                "Invalid property type MAP for Registry.foogroups.foo[resource0].details: {Owner=owner}",
+                "Invalid property type ARRAY for Registry.foogroups.foo[resource0].tags: tag",
+                "Invalid property type STRING for Registry.foogroups.foo[resource0].label: Label must be lowercase");
+    }
+
+    @Test
+    void verify_invalidContainers_matchesValidator() {
+        var registry = registry(3, 1);
+        groups(registry).put("group0", "invalid");
+        group(registry, "group1").put("foos", List.of());
+        versions(resource(registry, "group2", "resource0")).put("1.0", "invalid");
+
+        assertParity(registry);
+        assertThat(plan.validate(registry).violations()).containsExactlyInAnyOrder(
+                "Invalid type for Registry.foogroups[group0]",
+                "Invalid type for Registry.foogroups[group1].foos",
+                "Invalid type for Registry.foogroups.foos[resource0].[1.0]");
+    }
+
+    @Test
+    void verify_invalidGroupContainer_matchesValidator() {
+        var registry = registry(1, 1);
+        registry.put("foogroups", List.of());
+
+        assertParity(registry);
+        assertThat(plan.validate(registry).violations()).containsExactly("Invalid type for Registry.foogroups");
+    }
+
+    @Test
+    void verify_validateAttributesAndGroups() {
+        var registry = registry(1, 1);
+        resource(registry, "group0", "resource0").remove("fooid");
+
+        assertThat(plan.validateAttributes(registry).valid()).isTrue();
+        assertThat(plan.validateGroups("foogroups", groups(registry)).violations())
+                .containsExactly("Missing property: Registry.foogroups.foo.fooid");
+        assertThatThrownBy(() -> plan.validateGroups("unknown", groups(registry))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verify_validateGroupAttributesAndResource() {
+        var registry = registry(1, 2);
+        group(registry, "group0").remove("epoch");
+        resource(registry, "group0", "resource1").remove("fooid");
+
+        assertThat(plan.validateGroupAttributes("foogroups", group(registry, "group0")).violations())
+                .containsExactly("Missing property: Registry.foogroups[group0].epoch");
+        assertThat(plan.validateResource("foogroups", "group0", "foos", "resource0", resource(registry, "group0", "resource0")).valid()).isTrue();
+        assertThat(plan.validateResource("foogroups", "group0", "foos", "resource1", resource(registry, "group0", "resource1")).violations())
+                .containsExactly("Missing property: Registry.foogroups.foo.fooid");
+        assertThat(plan.validateResource("foogroups", "group0", "foos", "resource2", "invalid").violations())
+                .containsExactly("Invalid type for Registry.foogroups.foos[resource2]");
+        assertThatThrownBy(() -> plan.validateResource("foogroups", "group0", "unknown", "resource0", Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verify_violationLimit() {
+        var registry = registry(3, 2);
+        registry.remove("registryid");
+        groups(registry).put("group0", "invalid");
+        resource(registry, "group1", "resource0").remove("self");
+        resource(registry, "group2", "resource1").put("tags", "tag");
+        var all = List.copyOf(plan.validate(registry).violations());
+
+        var failFast = ValidationPlan.compile(definition, ViolationLimit.FAIL_FAST).validate(registry);
+        var limited = ValidationPlan.compile(definition, ViolationLimit.max(3)).validate(registry);
+
+        assertThat(all).hasSize(4);
+        assertThat(failFast.valid()).isFalse();
+        assertThat(failFast.violations()).containsExactlyElementsOf(all.subList(0, 1));
+        assertThat(limited.violations()).containsExactlyElementsOf(all.subList(0, 3));
+        assertThat(ValidationPlan.compile(definition, ViolationLimit.max(10)).validate(registry).violations()).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    void verify_violationLimit_matchesValidator() {
+        var registry = registry(3, 2);
+        registry.remove("registryid");
+        resource(registry, "group1", "resource0").remove("self");
+        resource(registry, "group2", "resource1").put("tags", "tag");
+        var limit = ViolationLimit.max(2);
+        var attributeValidator = new AttributeValidator(limit);
+        var limitedValidator = new RegistryValidator(new GroupValidator(attributeValidator, limit), attributeValidator, limit);
+
+        var expected = limitedValidator.validate(registry, definition);
+        var actual = ValidationPlan.compile(definition, limit).validate(registry);
+
+        assertThat(expected.violations()).hasSize(2);
+        assertThat(actual.violations()).containsExactlyElementsOf(expected.violations());
+    }
+
+    @Test
+    void verify_parallelValidation_matchesSequential() {
+        var registry = registry(4, 600);
+        registry.remove("registryid");
+        groups(registry).put("group0", "invalid");
+        group(registry, "group1").put("foos", List.of());
+        resource(registry, "group2", "resource5").remove("self");
+        resource(registry, "group2", "resource300").put("tags", "tag");
+        versions(resource(registry, "group3", "resource599")).put("1.0", "invalid");
+        var pool = new ForkJoinPool(4);
+        try {
+            for (var limit : List.of(ViolationLimit.FULL, ViolationLimit.FAIL_FAST, ViolationLimit.max(3))) {
+                var limitedPlan = ValidationPlan.compile(definition, limit);
+
+                var sequential = limitedPlan.validate(registry);
+                var parallel = limitedPlan.validate(registry, pool);
+
+                assertThat(parallel.valid()).isFalse();
+                assertThat(parallel.violations()).containsExactlyElementsOf(sequential.violations());
+            }
+            assertThat(plan.validate(registry(4, 600), pool)).isSameAs(ValidationResult.success());
+            assertThat(plan.validateGroups("foogroups", groups(registry), pool).violations())
+                    .containsExactlyElementsOf(plan.validateGroups("foogroups", groups(registry)).violations());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void verify_planReusable() {
+        var invalid = registry(1, 1);
+        invalid.remove("xid");
+
+        assertThat(plan.validate(invalid).valid()).isFalse();
+        assertThat(plan.validate(registry(1, 1)).valid()).isTrue();
+        assertThat(plan.getDefinition()).isSameAs(definition);
+    }
+
+    @BeforeEach
+    void setUp() {
+        definition = definition();
+        plan = ValidationPlan.compile(definition);
+        var attributeValidator = new AttributeValidator();
+        registryValidator = new RegistryValidator(new GroupValidator(attributeValidator), attributeValidator);
+    }
+
+    private void assertParity(Map<String, Object> registry) {
+        var expected = registryValidator.validate(registry, definition);
+        var actual = plan.validate(registry);
+        assertThat(actual.valid()).isEqualTo(expected.valid());
+        assertThat(actual.violations()).containsExactlyElementsOf(expected.violations());
+    }
+
+    static RegistryDefinition definition() {
+        return RegistryDefinition.Builder.newInstance()
+                .group(GroupDefinition.Builder.newInstance()
+                        .singular("foogroup")
+                        .plural("foogroups")
+                        .resource(ResourceDefinition.Builder.newInstance()
+                                .singular("foo")
+                                .plural("foos")
+                                .attribute(AttributeDefinition.Builder.newInstance()
+                                        .name("details")
+                                        .type(MAP)
+                                        .build())
+                                .attribute(AttributeDefinition.Builder.newInstance()
+                                        .name("tags")
+                                        .type(ARRAY)
+                                        .build())
+                                .attribute(AttributeDefinition.Builder.newInstance()
+                                        .name("label")
+                                        .type(STRING)
+                                        .typeConstraintsChecker(value -> value.equals(((String) value).toLowerCase()) ? null : "Label must be lowercase")
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+    }
+
+    static Map<String, Object> registry(int groupCount, int resourceCount) {
+        var groups = new LinkedHashMap<String, Object>();
+        for (var g = 0; g < groupCount; g++) {
+            var groupId = "group" + g;
+            var groupSelf = "#/foogroups/" + groupId;
+            var resources = new LinkedHashMap<String, Object>();
+            for (var r = 0; r < resourceCount; r++) {
+                var resourceId = "resource" + r;
+                var resourceSelf = groupSelf + "/foos/" + resourceId;
+                var version = new LinkedHashMap<String, Object>();
+                version.put("fooid", resourceId);
+                version.put("versionid", "1.0");
+                version.put("self", resourceSelf + "/versions/1.0");
+                version.put("xid", resourceSelf.substring(1) + "/versions/1.0");
+                version.put("epoch", 1);
+                version.put("isdefault", true);
+                version.put("createdat", TIMESTAMP);
+                version.put("modifiedat", TIMESTAMP);
+                var versions = new LinkedHashMap<String, Object>();
+                versions.put("1.0", version);
+                var details = new LinkedHashMap<String, Object>();
+                details.put("owner", "owner" + r);
+                var resource = new LinkedHashMap<String, Object>();
+                resource.put("fooid", resourceId);
+                resource.put("self", resourceSelf);
+                resource.put("xid", resourceSelf.substring(1));
+                resource.put("metaurl", resourceSelf + "/meta");
+                resource.put("versionsurl", resourceSelf + "/versions");
+                resource.put("versionscount", 1);
+                resource.put("details", details);
+                resource.put("tags", List.of("a", "b"));
+                resource.put("label", "label");
+                resource.put("versions", versions);
+                resources.put(resourceId, resource);
+            }
+            var group = new LinkedHashMap<String, Object>();
+            group.put("foogroupid", groupId);
+            group.put("self", groupSelf);
+            group.put("xid", groupSelf.substring(1));
+            group.put("epoch", 1);
+            group.put("createdat", TIMESTAMP);
+            group.put("modifiedat", TIMESTAMP);
+            group.put("foosurl", groupSelf + "/foos");
+            group.put("fooscount", resourceCount);
+            group.put("foos", resources);
+            groups.put(groupId, group);
+        }
+        var registry = new LinkedHashMap<String, Object>();
+        registry.put("specversion", "0.5");
+        registry.put("registryid", "sample");
+        registry.put("self", "https://localhost:8080/xregistry");
+        registry.put("xid", "/xregistry");
+        registry.put("epoch", 1);
+        registry.put("createdat", TIMESTAMP);
+        registry.put("modifiedat", TIMESTAMP);
+        registry.put("foogroupsurl", "#/foogroups");
+        registry.put("foogroupscount", groupCount);
+        registry.put("foogroups", groups);
+        return registry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> groups(Map<String, Object> registry) {
+        return (Map<String, Object>) registry.get("foogroups");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> group(Map<String, Object> registry, String groupId) {
+        return (Map<String, Object>) groups(registry).get(groupId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> resource(Map<String, Object> registry, String groupId, String resourceId) {
+        return (Map<String, Object>) ((Map<String, Object>) group(registry, groupId).get("foos")).get(resourceId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> versions(Map<String, Object> resource) {
+        return (Map<String, Object>) resource.get("versions");
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.library.validation;
+
+import org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.ViolationLimit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.failure;
+import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.missingProperty;
+import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.success;
+
+class ValidationResultTest {
+
+    @Test
+    void verify_successShared() {
+        assertThat(success()).isSameAs(success());
+        assertThat(success().valid()).isTrue();
+        assertThat(success().violations()).isEmpty();
+        assertThat(ValidationResult.Builder.newInstance().build()).isSameAs(success());
+    }
+
+    @Test
+    void verify_coalesceDoesNotModify() {
+        var first = missingProperty("prop1");
+        var second = missingProperty("prop2");
+
+        var result = first.coalesce(second);
+
+        assertThat(result.violations()).containsExactly("Missing property: prop1", "Missing property: prop2");
+        assertThat(first.violations()).containsExactly("Missing property: prop1");
+        assertThat(second.violations()).containsExactly("Missing property: prop2");
+        assertThat(success().coalesce(first)).isSameAs(first);
+        assertThat(first.coalesce(success())).isSameAs(first);
+        assertThat(success().coalesce(success())).isSameAs(success());
+    }
+
+    @Test
+    void verify_builderCollectsInOrder() {
+        var builder = ValidationResult.Builder.newInstance()
+                .result(success())
+                .violation("b")
+                .result(failure(Set.of("a")))
+                .violation("b");
+
+        assertThat(builder.valid()).isFalse();
+        var result = builder.build();
+        assertThat(result.valid()).isFalse();
+        assertThat(result.violations()).containsExactly("b", "a");
+        assertThatThrownBy(() -> result.violations().add("c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void verify_builderLimit() {
+        var builder = ValidationResult.Builder.newInstance()
+                .limit(ViolationLimit.max(2))
+                .violation("a");
+
+        assertThat(builder.isFull()).isFalse();
+        builder.result(failure(Set.of("b"))).violation("c");
+
+        assertThat(builder.isFull()).isTrue();
+        assertThat(builder.build().violations()).containsExactly("a", "b");
+        assertThatThrownBy(() -> ViolationLimit.max(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verify_failureRequiresViolation() {
+        assertThatThrownBy(() -> failure(Set.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.compact;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A map storing the attributes of a {@link SlotLayout} in a flat array.
+ * <p>
+ * Attributes not contained in the layout, such as extension attributes, are kept in an overflow map created on demand.
+ * Entries are iterated in layout order followed by overflow attributes in insertion order. Like {@link java.util.HashMap},
+ * instances are not thread-safe.
+ */
+public final class CompactMap extends AbstractMap<String, Object> {
+    private static final Object NULL = new Object();
+
+    private final SlotLayout layout;
+    private final Object[] values;
+    private int slotCount;
+    private Map<String, Object> overflow;
+    private Set<Entry<String, Object>> entrySet;
+
+    public CompactMap(SlotLayout layout) {
+        this.layout = requireNonNull(layout, "layout");
+        this.values = new Object[layout.size()];
+    }
+
+    public CompactMap(SlotLayout layout, Map<String, ?> source) {
+        this(layout);
+        for (var entry : source.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public int size() {
+        return slotCount + (overflow == null ? 0 : overflow.size());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        var slot = layout.slot(key);
+        if (slot >= 0) {
+            return values[slot] != null;
+        }
+        return overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        var slot = layout.slot(key);
+        if (slot >= 0) {
+            return unmask(values[slot]);
+        }
+        return overflow == null ? null : overflow.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        var slot = layout.slot(key);
+        if (slot >= 0) {
+            var previous = values[slot];
+            values[slot] = value == null ? NULL : value;
+            if (previous == null) {
+                slotCount++;
+            }
+            return unmask(previous);
+        }
+        if (overflow == null) {
+            overflow = new LinkedHashMap<>();
+        }
+        return overflow.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        var slot = layout.slot(key);
+        if (slot >= 0) {
+            return clearSlot(slot);
+        }
+        return overflow == null ? null : overflow.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        for (var i = 0; i < values.length; i++) {
+            values[i] = null;
+        }
+        slotCount = 0;
+        overflow = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        var current = entrySet;
+        if (current == null) {
+            current = new EntrySet();
+            entrySet = current;
+        }
+        return current;
+    }
+
+    private Object clearSlot(int slot) {
+        var previous = values[slot];
+        if (previous != null) {
+            values[slot] = null;
+            slotCount--;
+        }
+        return unmask(previous);
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL ? null : value;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int next = advance(0);
+        private int current = -1;
+        private boolean overflowCurrent;
+        private Iterator<Entry<String, Object>> overflowIterator;
+
+        @Override
+        public boolean hasNext() {
+            if (next < values.length) {
+                return true;
+            }
+            if (overflowIterator == null) {
+                if (overflow == null) {
+                    return false;
+                }
+                overflowIterator = overflow.entrySet().iterator();
+            }
+            return overflowIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next < values.length) {
+                current = next;
+                next = advance(next + 1);
+                return new SlotEntry(current);
+            }
+            current = -1;
+            overflowCurrent = true;
+            return overflowIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (current >= 0) {
+                clearSlot(current);
+                current = -1;
+            } else if (overflowCurrent) {
+                overflowIterator.remove();
+                overflowCurrent = false;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private int advance(int from) {
+            while (from < values.length && values[from] == null) {
+                from++;
+            }
+            return from;
+        }
+    }
+
+    private class SlotEntry implements Entry<String, Object> {
+        private final int slot;
+
+        SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return layout.name(slot);
+        }
+
+        @Override
+        public Object getValue() {
+            return unmask(values[slot]);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            var previous = values[slot];
+            values[slot] = value == null ? NULL : value;
+            return unmask(previous);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Entry<?, ?> entry && getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
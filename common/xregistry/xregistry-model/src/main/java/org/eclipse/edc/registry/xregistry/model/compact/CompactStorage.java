@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.compact;
+
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.VERSIONS;
+
+/**
+ * Converts untyped registry documents to {@link CompactMap}s.
+ * <p>
+ * Slot layouts are compiled once from a registry definition. The registry, its groups, resources and versions are
+ * converted to compact maps, while entry containers keep their map implementation and attribute values, including
+ * nested maps and arrays, are retained as is. Entries of undefined types are not converted.
+ */
+public final class CompactStorage {
+    private final RegistryDefinition definition;
+    private final SlotLayout registryLayout;
+    private final Map<String, GroupLayout> groupLayouts;
+
+    /**
+     * Compiles the slot layouts for the definition.
+     */
+    public static CompactStorage compile(RegistryDefinition definition) {
+        requireNonNull(definition, "definition");
+        var groupLayouts = new HashMap<String, GroupLayout>();
+        for (var group : definition.getGroups().values()) {
+            var resourceLayouts = new HashMap<String, ResourceLayout>();
+            for (var resource : group.getResources().values()) {
+                resourceLayouts.put(resource.getPlural(), new ResourceLayout(
+                        SlotLayout.of(resource, List.of(VERSIONS)),
+                        SlotLayout.of(resource.getVersionDefinition(), List.of())));
+            }
+            groupLayouts.put(group.getPlural(), new GroupLayout(SlotLayout.of(group, group.getResources().keySet()), Map.copyOf(resourceLayouts)));
+        }
+        return new CompactStorage(definition, SlotLayout.of(definition, definition.getGroups().keySet()), Map.copyOf(groupLayouts));
+    }
+
+    public RegistryDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Returns a compact copy of the registry. Entry containers of the source document are updated in place.
+     */
+    public CompactMap compact(Map<String, Object> registry) {
+        var compact = new CompactMap(registryLayout, registry);
+        for (var entry : groupLayouts.entrySet()) {
+            compactEntries(compact.get(entry.getKey()), entry.getValue());
+        }
+        return compact;
+    }
+
+    private void compactEntries(Object container, GroupLayout layout) {
+        forEachEntry(container, group -> {
+            for (var entry : layout.resources().entrySet()) {
+                compactEntries(group.get(entry.getKey()), entry.getValue());
+            }
+            return new CompactMap(layout.group(), group);
+        });
+    }
+
+    private void compactEntries(Object container, ResourceLayout layout) {
+        forEachEntry(container, resource -> {
+            forEachEntry(resource.get(VERSIONS), version -> new CompactMap(layout.version(), version));
+            return new CompactMap(layout.resource(), resource);
+        });
+    }
+
+    /**
+     * Replaces each entry of the container with the converted entry.
+     */
+    @SuppressWarnings("unchecked")
+    private static void forEachEntry(Object container, Function<Map<String, Object>, CompactMap> converter) {
+        if (!(container instanceof Map<?, ?> entries)) {
+            return;
+        }
+        for (var entry : ((Map<String, Object>) entries).entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?> value && !(value instanceof CompactMap)) {
+                entry.setValue(converter.apply((Map<String, Object>) value));
+            }
+        }
+    }
+
+    private CompactStorage(RegistryDefinition definition, SlotLayout registryLayout, Map<String, GroupLayout> groupLayouts) {
+        this.definition = definition;
+        this.registryLayout = registryLayout;
+        this.groupLayouts = groupLayouts;
+    }
+
+    private record GroupLayout(SlotLayout group, Map<String, ResourceLayout> resources) {
+    }
+
+    private record ResourceLayout(SlotLayout resource, SlotLayout version) {
+    }
+}
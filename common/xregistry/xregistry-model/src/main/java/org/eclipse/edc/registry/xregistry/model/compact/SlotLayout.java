@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.compact;
+
+import org.eclipse.edc.registry.xregistry.model.definition.AbstractTypeDefinition;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Assigns a fixed slot to each attribute declared by a type definition.
+ * <p>
+ * Layouts are immutable and shared by all {@link CompactMap}s storing entries of the same type.
+ */
+public final class SlotLayout {
+    private final String[] names;
+    private final Map<String, Integer> slots;
+
+    /**
+     * Creates a layout for the attributes of the definition and the given entry container names.
+     */
+    public static SlotLayout of(AbstractTypeDefinition definition, Collection<String> containers) {
+        var names = new LinkedHashSet<>(definition.getAttributes().keySet());
+        names.addAll(containers);
+        return new SlotLayout(names.toArray(String[]::new));
+    }
+
+    public SlotLayout(String... names) {
+        this.names = names.clone();
+        this.slots = new HashMap<>(names.length * 2);
+        for (var i = 0; i < names.length; i++) {
+            if (slots.putIfAbsent(names[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate attribute name: " + names[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of the attribute or -1 if the attribute is not part of the layout.
+     */
+    public int slot(Object name) {
+        var slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    public String name(int slot) {
+        return names[slot];
+    }
+
+    public int size() {
+        return names.length;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.compact;
+
+import org.eclipse.edc.registry.xregistry.model.definition.AbstractTypeDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.CREATED_AT;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.MODIFIED_AT;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.SELF;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.SHORT_SELF;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.URL;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.XID;
+
+/**
+ * A bounded table of canonical strings used to deduplicate attribute values of parsed registry documents.
+ * <p>
+ * The table is seeded with the names of the types and attributes of a registry definition. Further strings are added
+ * as they are encountered until the table is full, after which unknown strings are returned as is. Strings longer than
+ * the maximum length and the values of attributes identifying a single entry, such as {@code self}, {@code xid} and
+ * URLs, are not added since they are rarely repeated. Neither are timestamps, which change with every modification of
+ * an entry. The table never evicts strings, so callers processing a changing stream of documents should create a new
+ * table per batch. Instances are thread-safe.
+ */
+public final class StringTable {
+    public static final int DEFAULT_MAX_SIZE = 65_536;
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final Set<String> UNIQUE_ATTRIBUTES = Set.of(SELF, SHORT_SELF, XID, CREATED_AT, MODIFIED_AT);
+
+    private final Map<String, String> table = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final int maxLength;
+
+    /**
+     * Creates a table with the default bounds seeded with the names of the definition.
+     */
+    public static StringTable forDefinition(RegistryDefinition definition) {
+        return forDefinition(definition, DEFAULT_MAX_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a table seeded with the names of the definition.
+     */
+    public static StringTable forDefinition(RegistryDefinition definition, int maxSize, int maxLength) {
+        var table = new StringTable(maxSize, maxLength);
+        table.seed(definition);
+        for (var group : definition.getGroups().values()) {
+            table.seed(group);
+            for (var resource : group.getResources().values()) {
+                table.seed(resource);
+                table.seed(resource.getVersionDefinition());
+            }
+        }
+        return table;
+    }
+
+    public StringTable(int maxSize, int maxLength) {
+        if (maxSize < 0 || maxLength < 0) {
+            throw new IllegalArgumentException("Bounds must not be negative");
+        }
+        this.maxSize = maxSize;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the canonical instance of the string, adding it to the table if it is not contained and the table is not
+     * full.
+     */
+    public String canonicalize(String value) {
+        if (value.length() > maxLength) {
+            return value;
+        }
+        var canonical = table.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (table.size() >= maxSize) {
+            return value;
+        }
+        canonical = table.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    /**
+     * Replaces string values contained in the document and its nested maps and lists with their canonical instances.
+     * The document is modified in place.
+     */
+    @SuppressWarnings("unchecked")
+    public void canonicalizeValues(Map<String, Object> document) {
+        for (var entry : document.entrySet()) {
+            var value = entry.getValue();
+            if (value instanceof String string) {
+                if (!isUnique(entry.getKey())) {
+                    var canonical = canonicalize(string);
+                    if (canonical != string) {
+                        entry.setValue(canonical);
+                    }
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                canonicalizeValues((Map<String, Object>) map);
+            } else if (value instanceof List<?> list) {
+                canonicalizeValues((List<Object>) list);
+            }
+        }
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void canonicalizeValues(List<Object> list) {
+        var iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            var value = iterator.next();
+            if (value instanceof String string) {
+                var canonical = canonicalize(string);
+                if (canonical != string) {
+                    iterator.set(canonical);
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                canonicalizeValues((Map<String, Object>) map);
+            } else if (value instanceof List<?> nested) {
+                canonicalizeValues((List<Object>) nested);
+            }
+        }
+    }
+
+    private static boolean isUnique(String attribute) {
+        return UNIQUE_ATTRIBUTES.contains(attribute) || attribute.endsWith(URL);
+    }
+
+    /**
+     * Adds the names of the definition. Names are interned so they match the field names interned by JSON parsers.
+     */
+    private void seed(AbstractTypeDefinition definition) {
+        canonicalize(definition.getSingular().intern());
+        canonicalize(definition.getPlural().intern());
+        for (var name : definition.getAttributes().keySet()) {
+            canonicalize(name.intern());
+        }
+    }
+}
@@ -18,16 +18,25 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.COUNT;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.ID;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.NAME_VALIDATION;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.URL;
 import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.ARRAY;
 
 /**
  * An XRegistry model definition.
+ * <p>
+ * Attribute names derived from the singular and plural names are computed once when the definition is built, or on
+ * first access for definitions not created through a builder.
  */
 public abstract class AbstractTypeDefinition {
     protected String singular;
     protected String plural;
     protected String context;
+    protected String idKey;
+    protected String countKey;
+    protected String urlKey;
 
     protected Map<String, AttributeDefinition> attributes = new LinkedHashMap<>();
 
@@ -39,6 +48,36 @@ public abstract class AbstractTypeDefinition {
         return plural;
     }
 
+    /**
+     * Returns the name of the id attribute of entries, e.g. {@code fooid}.
+     */
+    public String getIdKey() {
+        if (idKey == null && singular != null) {
+            idKey = singular + ID;
+        }
+        return idKey;
+    }
+
+    /**
+     * Returns the name of the attribute holding the number of entries in a collection, e.g. {@code fooscount}.
+     */
+    public String getCountKey() {
+        if (countKey == null && plural != null) {
+            countKey = plural + COUNT;
+        }
+        return countKey;
+    }
+
+    /**
+     * Returns the name of the attribute holding the URL of a collection, e.g. {@code foosurl}.
+     */
+    public String getUrlKey() {
+        if (urlKey == null && plural != null) {
+            urlKey = plural + URL;
+        }
+        return urlKey;
+    }
+
     public String getContext() {
         return context;
     }
@@ -83,6 +122,9 @@ public abstract class AbstractTypeDefinition {
             if (!NAME_VALIDATION.matcher(definition.plural).matches()) {
                 throw new IllegalArgumentException("Plural name is invalid: " + definition.plural);
             }
+            definition.idKey = definition.singular + ID;
+            definition.countKey = definition.plural + COUNT;
+            definition.urlKey = definition.plural + URL;
             return definition;
         }
 
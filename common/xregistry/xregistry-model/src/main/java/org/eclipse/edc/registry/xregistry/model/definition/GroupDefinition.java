@@ -17,11 +17,9 @@ package org.eclipse.edc.registry.xregistry.model.definition;
 import java.util.HashMap;
 import java.util.Map;
 
-import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.COUNT;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.CREATED_AT;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.DESCRIPTION;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.EPOCH;
-import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.ID;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.LABELS;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.MODIFIED_AT;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.NAME;
@@ -69,7 +67,7 @@ public class GroupDefinition extends AbstractTypeDefinition {
 
         public GroupDefinition build() {
             var result = super.build();
-            addRequiredAttribute(definition.singular + ID, STRING);
+            addRequiredAttribute(definition.idKey, STRING);
             addRequiredAttribute(SELF, STRING); // TODO handle JSON Pointer
             addRequiredAttribute(RegistryConstants.XID, XID);
             addRequiredAttribute(EPOCH, UINTEGER);
@@ -77,8 +75,8 @@ public class GroupDefinition extends AbstractTypeDefinition {
             addRequiredAttribute(MODIFIED_AT, TIMESTAMP);
 
             definition.resources.values().forEach(resource -> {
-                addRequiredAttribute(resource.getPlural() + RegistryConstants.URL, URL);
-                addRequiredAttribute(resource.getPlural() + COUNT, UINTEGER);
+                addRequiredAttribute(resource.getUrlKey(), URL);
+                addRequiredAttribute(resource.getCountKey(), UINTEGER);
             });
 
             addOptionalAttribute(SHORT_SELF, URL);
@@ -17,8 +17,8 @@ package org.eclipse.edc.registry.xregistry.model.definition;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static java.util.Collections.unmodifiableMap;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.CAPABILITIES;
-import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.COUNT;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.CREATED_AT;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.DESCRIPTION;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.DOCUMENTATION;
@@ -48,7 +48,7 @@ import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.URL;
 import static org.eclipse.edc.registry.xregistry.model.definition.ValueType.XID;
 
 /**
- * Defines an XRegistry model.
+ * Defines an XRegistry model. The groups and attributes of a built definition cannot be modified.
  */
 public class RegistryDefinition extends AbstractTypeDefinition {
     private Map<String, GroupDefinition> groups = new LinkedHashMap<>();
@@ -88,8 +88,8 @@ public class RegistryDefinition extends AbstractTypeDefinition {
             addRequiredAttribute(MODIFIED_AT, TIMESTAMP);
 
             definition.groups.values().forEach(group -> {
-                addRequiredAttribute(group.getPlural() + RegistryConstants.URL, URL);
-                addRequiredAttribute(group.getPlural() + COUNT, UINTEGER);
+                addRequiredAttribute(group.getUrlKey(), URL);
+                addRequiredAttribute(group.getCountKey(), UINTEGER);
             });
 
             addOptionalAttribute(DESCRIPTION, STRING);
@@ -101,6 +101,8 @@ public class RegistryDefinition extends AbstractTypeDefinition {
             createModel();
 
             result.setContext("Registry");
+            result.groups = unmodifiableMap(result.groups);
+            result.attributes = unmodifiableMap(result.attributes);
             return result;
         }
 
@@ -21,11 +21,14 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Specifies an XRegistry and the extensible types it supports.
+ * <p>
+ * Groups are registered at boot. The registry definition is built once and shared until another group is registered.
  */
 public class RegistrySpecification {
     private Map<String, GroupDefinition> groups = new HashMap<>();
     private Map<String, ResourceDefinition> resources = new HashMap<>();
     private String url;
+    private volatile RegistryDefinition registryDefinition;
 
     public RegistrySpecification(String url) {
         this.url = requireNonNull(url, "url");
@@ -35,9 +38,10 @@ public class RegistrySpecification {
         return url;
     }
 
-    public void registerGroup(GroupDefinition group) {
+    public synchronized void registerGroup(GroupDefinition group) {
         groups.put(group.getPlural(), group);
         group.getResources().values().forEach(resource -> resources.put(resource.getSingular(), resource));
+        registryDefinition = null;
     }
 
     public Map<String, GroupDefinition> getGroupDefinitions() {
@@ -56,10 +60,22 @@ public class RegistrySpecification {
         return resources.get(type);
     }
 
+    /**
+     * Returns the definition of the registry and the registered groups. The definition must not be modified.
+     */
     public RegistryDefinition getRegistryDefinition() {
-        var builder = RegistryDefinition.Builder.newInstance();
-        groups.values().forEach(builder::group);
-        return builder.build();
+        var current = registryDefinition;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (registryDefinition == null) {
+                var builder = RegistryDefinition.Builder.newInstance();
+                groups.values().forEach(builder::group);
+                registryDefinition = builder.build();
+            }
+            return registryDefinition;
+        }
     }
 
 }
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.registry.xregistry.model.definition;
 
-import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.ID;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.META;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.META_URL;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.SELF;
@@ -59,7 +58,7 @@ public class ResourceDefinition extends AbstractTypeDefinition {
 
         public ResourceDefinition build() {
             var result = super.build();
-            addRequiredAttribute(definition.singular + ID, STRING);
+            addRequiredAttribute(definition.idKey, STRING);
             addRequiredAttribute(SELF, STRING);   // TODO handle JSON Pointer
             addRequiredAttribute(RegistryConstants.XID, XID);
             addRequiredAttribute(META_URL, URL);
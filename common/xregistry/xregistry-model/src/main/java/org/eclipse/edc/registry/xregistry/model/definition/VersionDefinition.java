@@ -66,7 +66,7 @@ public class VersionDefinition extends AbstractTypeDefinition {
 
             var result = super.build();
             addRequiredAttribute(definition.resourceName + ID, STRING);
-            addRequiredAttribute(definition.singular + ID, STRING);
+            addRequiredAttribute(definition.idKey, STRING);
             addRequiredAttribute(IS_DEFAULT, BOOLEAN);
             addRequiredAttribute(SELF, STRING);
             addRequiredAttribute(RegistryConstants.XID, XID);
@@ -22,6 +22,7 @@ import java.net.URL;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 import static java.lang.String.format;
 import static java.util.Collections.unmodifiableMap;
@@ -29,7 +30,6 @@ import static java.util.Objects.requireNonNull;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.COUNT;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.CREATED_AT;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.EPOCH;
-import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.ID;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.MODIFIED_AT;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.SELF;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.XID;
@@ -37,9 +37,13 @@ import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConsta
 /**
  * Base type.
  * <p>
- * Subclasses provide a typed view on untyped XRegistry models.
+ * Subclasses provide a typed view on untyped XRegistry models. Typed views of contained entries may be computed lazily
+ * and cached. Builders created from an instance invalidate the cached views of the instance and the instances
+ * containing it before modifying the untyped model.
  */
 public abstract class AbstractType<D extends AbstractTypeDefinition> {
+    private static final int PARSED_SLOTS = 4;
+
     protected Map<String, Object> untyped;
     protected Map<String, Object> unmodifiableUntyped;
 
@@ -47,6 +51,10 @@ public abstract class AbstractType<D extends AbstractTypeDefinition> {
 
     protected final TypeFactory typeFactory;
 
+    private AbstractType<?> parent;
+
+    private volatile ParsedValue[] parsedValues;
+
     protected AbstractType(Map<String, Object> untyped, D definition, TypeFactory typeFactory) {
         this.untyped = requireNonNull(untyped, "untyped");
         this.unmodifiableUntyped = unmodifiableMap(untyped);
@@ -59,7 +67,7 @@ public abstract class AbstractType<D extends AbstractTypeDefinition> {
     }
 
     public String getId() {
-        return getString(definition.getSingular() + ID);
+        return getString(definition.getIdKey());
     }
 
     public int getCollectionCount(String collectionName) {
@@ -70,6 +78,14 @@ public abstract class AbstractType<D extends AbstractTypeDefinition> {
         return getUrl(collectionName + RegistryConstants.URL);
     }
 
+    public int getCollectionCount(AbstractTypeDefinition collection) {
+        return getInt(collection.getCountKey());
+    }
+
+    public URL getCollectionUrl(AbstractTypeDefinition collection) {
+        return getUrl(collection.getUrlKey());
+    }
+
     public int getEpoch() {
         return getInt(EPOCH);
     }
@@ -115,28 +131,11 @@ public abstract class AbstractType<D extends AbstractTypeDefinition> {
     }
 
     public URL getUrl(String key) {
-        var value = untyped.get(key);
-        try {
-            return value == null ? null : new URL((String) value);
-        } catch (MalformedURLException e) {
-            throw new IllegalArgumentException(e);
-        }
+        return getParsed(key, AbstractType::parseUrl);
     }
 
     public Instant getTimestamp(String key) {
-        var value = untyped.get(key);
-        if (value == null) {
-            return null;
-        } else {
-            if (!(value instanceof String)) {
-                throw new IllegalArgumentException(format("Illegal value for key '%s': %s", key, value));
-            }
-            try {
-                return Instant.parse((String) value);
-            } catch (DateTimeParseException e) {
-                throw new IllegalArgumentException(format("Illegal timestamp value for key '%s': %s", key, value));
-            }
-        }
+        return getParsed(key, AbstractType::parseTimestamp);
     }
 
     /**
@@ -150,10 +149,85 @@ public abstract class AbstractType<D extends AbstractTypeDefinition> {
         return untyped;
     }
 
+    /**
+     * Discards cached typed views. Subclasses caching views must clear them and call this method.
+     */
+    protected void invalidate() {
+        parsedValues = null;
+        var current = parent;
+        if (current != null) {
+            current.invalidate();
+        }
+    }
+
+    /**
+     * Sets the instance whose cached views contain this instance.
+     */
+    void setParent(AbstractType<?> parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the parsed value of the attribute. Parsed values are cached in a few slots and reused as long as the
+     * attribute refers to the same raw value. Entries are immutable; an entry lost to a concurrent write or evicted by
+     * another key is parsed again.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getParsed(String key, BiFunction<String, Object, T> parser) {
+        var value = untyped.get(key);
+        if (value == null) {
+            return null;
+        }
+        var values = parsedValues;
+        if (values == null) {
+            values = new ParsedValue[PARSED_SLOTS];
+            parsedValues = values;
+        }
+        var slot = -1;
+        for (var i = 0; i < values.length; i++) {
+            var cached = values[i];
+            if (cached == null) {
+                slot = slot < 0 ? i : slot;
+            } else if (cached.key().equals(key)) {
+                if (cached.raw() == value) {
+                    return (T) cached.value();
+                }
+                slot = i;
+                break;
+            }
+        }
+        var parsed = parser.apply(key, value);
+        values[slot < 0 ? (key.hashCode() & (PARSED_SLOTS - 1)) : slot] = new ParsedValue(key, value, parsed);
+        return parsed;
+    }
+
+    private static URL parseUrl(String key, Object value) {
+        try {
+            return new URL((String) value);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static Instant parseTimestamp(String key, Object value) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException(format("Illegal value for key '%s': %s", key, value));
+        }
+        try {
+            return Instant.parse((String) value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(format("Illegal timestamp value for key '%s': %s", key, value));
+        }
+    }
+
+    private record ParsedValue(String key, Object raw, Object value) {
+    }
+
     public static class Builder<D extends AbstractTypeDefinition, B extends Builder<D, B>> {
         protected Map<String, Object> untyped;
         protected D definition;
         protected TypeFactory typeFactory;
+        protected AbstractType<D> source;
 
         @SuppressWarnings("unchecked")
         public B untyped(Map<String, Object> untyped) {
@@ -173,10 +247,20 @@ public abstract class AbstractType<D extends AbstractTypeDefinition> {
             return (B) this;
         }
 
+        /**
+         * Sets the instance this builder modifies. Its cached views are invalidated when the builder modifies the
+         * untyped model.
+         */
+        @SuppressWarnings("unchecked")
+        public B source(AbstractType<D> source) {
+            this.source = source;
+            return (B) this;
+        }
+
         @SuppressWarnings("unchecked")
         public B id(String id) {
             checkModifiableState();
-            this.untyped.put(definition.getSingular() + ID, id);
+            this.untyped.put(definition.getIdKey(), id);
             return (B) this;
         }
 
@@ -232,6 +316,9 @@ public abstract class AbstractType<D extends AbstractTypeDefinition> {
             if (untyped == null) {
                 throw new IllegalStateException("Untyped entity must be set prior a modification operation");
             }
+            if (source != null) {
+                source.invalidate();
+            }
         }
 
         public Builder() {
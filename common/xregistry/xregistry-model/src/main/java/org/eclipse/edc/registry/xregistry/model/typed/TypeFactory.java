@@ -45,4 +45,19 @@ public interface TypeFactory {
      */
     void registerResource(String name, Instantiator instantiator);
 
+    /**
+     * Registers a resource {@link Instantiator} creating instances of the given type. Declaring the type allows typed
+     * views to select resources by type without instantiating resources of other types.
+     */
+    default void registerResource(String name, Class<? extends TypedResource<?>> type, Instantiator instantiator) {
+        registerResource(name, instantiator);
+    }
+
+    /**
+     * Returns the declared type of the resource or null if it was registered without a type.
+     */
+    default Class<? extends TypedResource<?>> getResourceType(String name) {
+        return null;
+    }
+
 }
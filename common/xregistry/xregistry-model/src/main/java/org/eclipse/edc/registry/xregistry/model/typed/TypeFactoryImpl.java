@@ -17,26 +17,95 @@ package org.eclipse.edc.registry.xregistry.model.typed;
 import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
  * Default implementation.
+ * <p>
+ * Registrations are published as immutable snapshots, so instances can be shared by threads registering and
+ * instantiating types without locking on the lookup path. The instantiators resolved for resource definitions are
+ * cached by definition identity and reused until a later registration publishes a new snapshot.
  */
 public class TypeFactoryImpl implements TypeFactory {
-    private Map<String, Instantiator> instantiators = new HashMap<>();
+    private static final int MAX_RESOLVED = 256;
+
+    private volatile Registrations registrations = new Registrations(Map.of(), Map.of());
+    private volatile Resolved resolved = new Resolved(registrations, Map.of());
 
     @Override
     public TypedResource<?> instantiate(Map<String, Object> untyped, ResourceDefinition definition) {
-        return instantiators
-                .computeIfAbsent(definition.getSingular(), key -> {
-                    throw new IllegalArgumentException("Unknown type: " + key);
-                })
-                .instantiate(untyped, definition, this);
+        return resolve(definition).instantiate(untyped, definition, this);
     }
 
     @Override
     public void registerResource(String name, Instantiator instantiator) {
+        register(name, null, instantiator);
+    }
+
+    @Override
+    public void registerResource(String name, Class<? extends TypedResource<?>> type, Instantiator instantiator) {
+        register(name, type, instantiator);
+    }
+
+    @Override
+    public Class<? extends TypedResource<?>> getResourceType(String name) {
+        return registrations.types().get(name);
+    }
+
+    /**
+     * Returns true if the instantiator for the definition is cached.
+     */
+    boolean isResolved(ResourceDefinition definition) {
+        var cache = resolved;
+        return cache.registrations() == registrations && cache.instantiators().containsKey(definition);
+    }
+
+    private Instantiator resolve(ResourceDefinition definition) {
+        var current = registrations;
+        var cache = resolved;
+        if (cache.registrations() == current) {
+            var instantiator = cache.instantiators().get(definition);
+            if (instantiator != null) {
+                return instantiator;
+            }
+        }
+        var instantiator = current.instantiators().get(definition.getSingular());
+        if (instantiator == null) {
+            throw new IllegalArgumentException("Unknown type: " + definition.getSingular());
+        }
+        // copy on write; a concurrently cached entry may be lost and is resolved again on the next call
+        var instantiators = new IdentityHashMap<ResourceDefinition, Instantiator>();
+        if (cache.registrations() == current && cache.instantiators().size() < MAX_RESOLVED) {
+            instantiators.putAll(cache.instantiators());
+        }
+        instantiators.put(definition, instantiator);
+        resolved = new Resolved(current, instantiators);
+        return instantiator;
+    }
+
+    private synchronized void register(String name, Class<? extends TypedResource<?>> type, Instantiator instantiator) {
+        var current = registrations;
+        var instantiators = new HashMap<>(current.instantiators());
+        var types = new HashMap<>(current.types());
         instantiators.put(name, instantiator);
+        if (type == null) {
+            types.remove(name);
+        } else {
+            types.put(name, type);
+        }
+        registrations = new Registrations(Map.copyOf(instantiators), Map.copyOf(types));
+    }
+
+    /**
+     * A snapshot of the registered instantiators and declared types.
+     */
+    private record Registrations(Map<String, Instantiator> instantiators, Map<String, Class<? extends TypedResource<?>>> types) {
     }
 
+    /**
+     * The instantiators resolved for definitions from a snapshot. The map is never modified once published.
+     */
+    private record Resolved(Registrations registrations, Map<ResourceDefinition, Instantiator> instantiators) {
+    }
 }
@@ -15,43 +15,67 @@
 package org.eclipse.edc.registry.xregistry.model.typed;
 
 import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static java.util.stream.Collectors.toMap;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 
 /**
  * A typed view of an XRegistry group.
  */
 public class TypedGroup extends AbstractType<GroupDefinition> {
+    private volatile ResourceIndex resourceIndex;
 
     public Map<String, TypedResource<?>> getResources() {
-        return getTypedResources().collect(toMap(AbstractType::getId, resource -> resource));
+        return getResourceIndex().all();
+    }
+
+    /**
+     * Returns the resources of a resource type keyed by id.
+     *
+     * @param name the plural name of the resource type
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TypedResource<?>> Map<String, T> getResources(String name) {
+        var resourceDefinition = definition.getResources().get(name);
+        return resourceDefinition == null ? emptyMap() : (Map<String, T>) getResourceIndex().of(resourceDefinition);
     }
 
     @SuppressWarnings("unchecked")
     public <T extends TypedResource<?>> T getResource(String name) {
-        return (T) getTypedResources()
-                .filter(resource -> resource.getId().equals(name))
-                .findFirst().orElseGet((() -> null));
+        return (T) getResourceIndex().all().get(name);
     }
 
+    /**
+     * Returns the resources of the given type. Resource types registered with a different type in the
+     * {@link TypeFactory} are not instantiated.
+     */
     @SuppressWarnings("unchecked")
     public <T extends TypedResource<?>> Collection<T> getResourcesOfType(Class<T> type) {
-        return (Collection<T>) getTypedResources()
-                .filter(typedResource -> typedResource.getClass().equals(type))
-                .toList();
+        return (Collection<T>) getResourceIndex().ofType(type);
     }
 
     public Builder toBuilder() {
         return Builder.newInstance()
                 .untyped(untyped)
                 .definition(definition)
-                .typeFactory(typeFactory);
+                .typeFactory(typeFactory)
+                .source(this);
+    }
+
+    @Override
+    protected void invalidate() {
+        resourceIndex = null;
+        super.invalidate();
     }
 
     private TypedGroup(Map<String, Object> untyped, GroupDefinition definition, TypeFactory typeFactory) {
@@ -59,13 +83,74 @@ public class TypedGroup extends AbstractType<GroupDefinition> {
         this.definition = definition;
     }
 
-    @SuppressWarnings("unchecked")
-    private Stream<? extends TypedResource<?>> getTypedResources() {
-        return definition.getResources().values().stream().flatMap(resourceDefinition -> {
-            Map<String, Map<String, Object>> resources = (Map<String, Map<String, Object>>) untyped.get(resourceDefinition.getPlural());
-            return resources == null ? null : resources.values().stream()
-                    .map(resource -> typeFactory.instantiate(resource, resourceDefinition));
-        }).filter(Objects::nonNull);
+    private ResourceIndex getResourceIndex() {
+        var current = resourceIndex;
+        if (current == null) {
+            current = new ResourceIndex();
+            resourceIndex = current;
+        }
+        return current;
+    }
+
+    /**
+     * Typed resources of the group, instantiated per resource type on first access.
+     */
+    private class ResourceIndex {
+        private final Map<String, Map<String, TypedResource<?>>> byDefinition = new ConcurrentHashMap<>();
+        private final Map<Class<?>, List<TypedResource<?>>> byType = new ConcurrentHashMap<>();
+        private volatile Map<String, TypedResource<?>> all;
+
+        Map<String, TypedResource<?>> of(ResourceDefinition resourceDefinition) {
+            return byDefinition.computeIfAbsent(resourceDefinition.getPlural(), plural -> instantiate(resourceDefinition));
+        }
+
+        List<TypedResource<?>> ofType(Class<?> type) {
+            return byType.computeIfAbsent(type, this::select);
+        }
+
+        Map<String, TypedResource<?>> all() {
+            var current = all;
+            if (current == null) {
+                var resources = new LinkedHashMap<String, TypedResource<?>>();
+                for (var resourceDefinition : definition.getResources().values()) {
+                    of(resourceDefinition).forEach(resources::putIfAbsent);
+                }
+                current = unmodifiableMap(resources);
+                all = current;
+            }
+            return current;
+        }
+
+        private List<TypedResource<?>> select(Class<?> type) {
+            var resources = new ArrayList<TypedResource<?>>();
+            for (var resourceDefinition : definition.getResources().values()) {
+                var declaredType = typeFactory.getResourceType(resourceDefinition.getSingular());
+                if (declaredType != null && !declaredType.equals(type)) {
+                    continue;
+                }
+                for (var resource : of(resourceDefinition).values()) {
+                    if (resource.getClass().equals(type)) {
+                        resources.add(resource);
+                    }
+                }
+            }
+            return unmodifiableList(resources);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, TypedResource<?>> instantiate(ResourceDefinition resourceDefinition) {
+            var resources = (Map<String, Map<String, Object>>) untyped.get(resourceDefinition.getPlural());
+            if (resources == null) {
+                return emptyMap();
+            }
+            var typedResources = new LinkedHashMap<String, TypedResource<?>>();
+            for (var resource : resources.values()) {
+                TypedResource<?> typedResource = typeFactory.instantiate(resource, resourceDefinition);
+                typedResource.setParent(TypedGroup.this);
+                typedResources.putIfAbsent(typedResource.getId(), typedResource);
+            }
+            return unmodifiableMap(typedResources);
+        }
     }
 
     public static class Builder extends AbstractType.Builder<GroupDefinition, Builder> {
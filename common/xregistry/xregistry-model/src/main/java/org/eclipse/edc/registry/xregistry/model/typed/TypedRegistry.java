@@ -22,7 +22,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.toMap;
+import static java.util.Collections.unmodifiableMap;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.SELF;
 
 /**
@@ -30,6 +30,7 @@ import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConsta
  */
 public class TypedRegistry extends AbstractType<RegistryDefinition> {
     private TypeFactory typeFactory;
+    private volatile Map<String, Map<String, TypedGroup>> typedGroups;
 
     protected TypedRegistry(Map<String, Object> untyped, RegistryDefinition definition, TypeFactory typeFactory) {
         super(untyped, definition, typeFactory);
@@ -50,28 +51,49 @@ public class TypedRegistry extends AbstractType<RegistryDefinition> {
         return Builder.newInstance()
                 .untyped(untyped)
                 .definition(definition)
-                .typeFactory(typeFactory);
+                .typeFactory(typeFactory)
+                .source(this);
     }
 
-    @SuppressWarnings("unchecked")
+    @Override
+    protected void invalidate() {
+        typedGroups = null;
+        super.invalidate();
+    }
+
+    /**
+     * Returns the typed groups keyed by group container name, creating them on first access.
+     */
     private Map<String, Map<String, TypedGroup>> getTypedGroups() {
-        return this.definition.getGroups().values().stream().map(groupDefinition -> {
-            var groupContainerName = groupDefinition.getPlural();
-            var groupsMap = (Map<String, Map<String, Object>>) untyped.get(groupContainerName);
+        var current = typedGroups;
+        if (current == null) {
+            current = createTypedGroups();
+            typedGroups = current;
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, TypedGroup>> createTypedGroups() {
+        var result = new HashMap<String, Map<String, TypedGroup>>();
+        for (var groupDefinition : definition.getGroups().values()) {
+            var groupsMap = (Map<String, Map<String, Object>>) untyped.get(groupDefinition.getPlural());
             if (groupsMap == null) {
                 groupsMap = emptyMap();
             }
-            var typedGroupsMap = groupsMap.values().stream()
-                    .map(group -> TypedGroup.Builder.newInstance()
-                            .untyped(group)
-                            .definition(groupDefinition)
-                            .typeFactory(typeFactory)
-                            .build()).collect(toMap(TypedGroup::getId, group -> group));
-            return new GroupHolder(groupContainerName, typedGroupsMap);
-        }).collect(toMap(h -> h.name, h -> h.groups));
-    }
-
-    private record GroupHolder(String name, Map<String, TypedGroup> groups) {
+            var typedGroupsMap = new HashMap<String, TypedGroup>();
+            for (var group : groupsMap.values()) {
+                var typedGroup = TypedGroup.Builder.newInstance()
+                        .untyped(group)
+                        .definition(groupDefinition)
+                        .typeFactory(typeFactory)
+                        .build();
+                typedGroup.setParent(this);
+                typedGroupsMap.put(typedGroup.getId(), typedGroup);
+            }
+            result.put(groupDefinition.getPlural(), unmodifiableMap(typedGroupsMap));
+        }
+        return unmodifiableMap(result);
     }
 
     public static class Builder extends AbstractType.Builder<RegistryDefinition, Builder> {
@@ -117,11 +139,11 @@ public class TypedRegistry extends AbstractType<RegistryDefinition> {
                 var groupContainerName = groupDefinition.getPlural();
                 var groupsMap = (Map<String, Map<String, Object>>) untyped.get(groupContainerName);
                 if (groupsMap == null || groupsMap.isEmpty()) {
-                    untyped.remove(groupContainerName + "url");
-                    untyped.remove(groupContainerName + "count");
+                    untyped.remove(groupDefinition.getUrlKey());
+                    untyped.remove(groupDefinition.getCountKey());
                 } else {
-                    untyped.put(groupContainerName + "url", "#/" + groupContainerName);
-                    untyped.put(groupContainerName + "count", groupsMap.size());
+                    untyped.put(groupDefinition.getUrlKey(), "#/" + groupContainerName);
+                    untyped.put(groupDefinition.getCountKey(), groupsMap.size());
                 }
             });
         }
@@ -17,12 +17,11 @@ package org.eclipse.edc.registry.xregistry.model.typed;
 import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
 
 import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.toMap;
+import static java.util.Collections.unmodifiableMap;
 import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.VERSIONS;
 
 /**
@@ -30,29 +29,25 @@ import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConsta
  */
 public abstract class TypedResource<V extends TypedVersion> extends AbstractType<ResourceDefinition> {
     protected ResourceDefinition definition;
+    private volatile VersionIndex<V> versionIndex;
 
-    @SuppressWarnings("unchecked")
     public Map<String, V> getVersions() {
-        var untypedVersions = (Map<String, Map<String, Object>>) untyped.get(VERSIONS);
-        if (untypedVersions != null) {
-            Set<Map.Entry<String, Map<String, Object>>> entries = untypedVersions.entrySet();
-            return entries.stream().map(entry -> createVersion(entry.getValue()))
-                    .collect(toMap(AbstractType::getId, v -> v));
-        }
-        return emptyMap();
+        return getVersionIndex().versions();
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Returns the latest version according to the {@link VersionOrder} or null if the resource has no versions.
+     */
     public V getLatestVersion() {
-        var untypedVersions = (Map<String, Map<String, Object>>) untyped.get(VERSIONS);
-        if (untypedVersions != null) {
-            var sorted = new TreeMap<>(untypedVersions);
-            var version = sorted.lastEntry();
-            if (version != null) {
-                return createVersion(version.getValue());
-            }
-        }
-        return null;
+        return getVersionIndex().latest();
+    }
+
+    /**
+     * Returns the version flagged as default or the latest version if none is flagged. Returns null if the resource has
+     * no versions.
+     */
+    public V getDefaultVersion() {
+        return getVersionIndex().defaultVersion();
     }
 
     public ResourceDefinition getDefinition() {
@@ -66,6 +61,53 @@ public abstract class TypedResource<V extends TypedVersion> extends AbstractType
 
     protected abstract V createVersion(Map<String, Object> untypedVersion);
 
+    @Override
+    protected void invalidate() {
+        versionIndex = null;
+        super.invalidate();
+    }
+
+    /**
+     * Returns the typed versions, creating them on first access.
+     */
+    @SuppressWarnings("unchecked")
+    private VersionIndex<V> getVersionIndex() {
+        var current = versionIndex;
+        if (current != null) {
+            return current;
+        }
+        var untypedVersions = (Map<String, Map<String, Object>>) untyped.get(VERSIONS);
+        if (untypedVersions == null || untypedVersions.isEmpty()) {
+            current = new VersionIndex<>(emptyMap(), null, null);
+        } else {
+            var versions = new LinkedHashMap<String, V>();
+            String latestId = null;
+            V latest = null;
+            String flaggedId = null;
+            V flagged = null;
+            for (var entry : untypedVersions.entrySet()) {
+                var id = entry.getKey();
+                var version = createVersion(entry.getValue());
+                versions.put(version.getId(), version);
+                if (id != null && (latestId == null || VersionOrder.compare(id, latestId) > 0)) {
+                    latestId = id;
+                    latest = version;
+                }
+                if (id != null && version.isDefault() && (flaggedId == null || VersionOrder.compare(id, flaggedId) > 0)) {
+                    flaggedId = id;
+                    flagged = version;
+                }
+            }
+            var defaultVersion = flagged != null ? flagged : latest;
+            current = new VersionIndex<>(unmodifiableMap(versions), latest, defaultVersion);
+        }
+        versionIndex = current;
+        return current;
+    }
+
+    private record VersionIndex<V>(Map<String, V> versions, V latest, V defaultVersion) {
+    }
+
     public static class Builder<V extends TypedVersion, B extends Builder<V, B>> extends AbstractType.Builder<ResourceDefinition, B> {
 
         @SuppressWarnings("unchecked")
@@ -78,6 +120,7 @@ public abstract class TypedResource<V extends TypedVersion> extends AbstractType
 
         @SuppressWarnings("unchecked")
         public B removeVersion(String name) {
+            checkModifiableState();
             @SuppressWarnings("unchecked")
             var untypedVersions = (Map<String, Map<String, Object>>) this.untyped.get(VERSIONS);
             if (untypedVersions == null) {
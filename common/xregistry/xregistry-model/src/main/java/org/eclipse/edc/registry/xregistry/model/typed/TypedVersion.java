@@ -18,6 +18,8 @@ import org.eclipse.edc.registry.xregistry.model.definition.VersionDefinition;
 
 import java.util.Map;
 
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.IS_DEFAULT;
+
 /**
  * A typed view of an XRegistry resource version.
  */
@@ -29,6 +31,13 @@ public abstract class TypedVersion extends AbstractType<VersionDefinition> {
         this.definition = definition;
     }
 
+    /**
+     * Returns true if the version is flagged as the default version of its resource.
+     */
+    public boolean isDefault() {
+        return Boolean.TRUE.equals(untyped.get(IS_DEFAULT));
+    }
+
     public static class Builder<V extends VersionDefinition, B extends TypedVersion.Builder<V, B>>
             extends AbstractType.Builder<VersionDefinition, B> {
 
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.typed;
+
+import java.util.Comparator;
+import java.util.Map;
+
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.IS_DEFAULT;
+
+/**
+ * Orders XRegistry version ids.
+ * <p>
+ * Version ids are compared segment by segment, where a segment is a run of digits or a run of other characters. Numeric
+ * segments are compared by value, so {@code 9} precedes {@code 10}, and other segments lexicographically. A segment
+ * starting with {@code -} marks a pre-release, which precedes the version itself, while any other suffix, such as
+ * {@code +} build metadata, follows it: {@code 1.0-beta} precedes {@code 1.0}, which precedes {@code 1.0+build} and
+ * {@code 1.0.1}. The end of a version id thus ranks between pre-release segments and all other segments, which makes
+ * the order total. Version ids that are equal by value are ordered by their characters.
+ */
+public final class VersionOrder {
+
+    /**
+     * Compares version ids in ascending order.
+     */
+    public static final Comparator<String> COMPARATOR = VersionOrder::compare;
+
+    // segment ranks, in ascending order
+    private static final int PRE_RELEASE = 0;
+    private static final int END = 1;
+    private static final int NUMERIC = 2;
+    private static final int TEXT = 3;
+
+    /**
+     * Returns the id of the default version, i.e. the latest version flagged as {@code isdefault} or the latest version
+     * if none is flagged. Returns null if there are no versions.
+     */
+    public static String defaultVersion(Map<String, ?> versions) {
+        String flagged = null;
+        String latest = null;
+        for (var entry : versions.entrySet()) {
+            var id = entry.getKey();
+            if (latest == null || compare(id, latest) > 0) {
+                latest = id;
+            }
+            var isDefault = entry.getValue() instanceof Map<?, ?> version && Boolean.TRUE.equals(version.get(IS_DEFAULT));
+            if (isDefault && (flagged == null || compare(id, flagged) > 0)) {
+                flagged = id;
+            }
+        }
+        return flagged != null ? flagged : latest;
+    }
+
+    static int compare(String first, String second) {
+        var i = 0;
+        var j = 0;
+        while (true) {
+            var firstRank = rank(first, i);
+            var secondRank = rank(second, j);
+            if (firstRank != secondRank) {
+                return Integer.compare(firstRank, secondRank);
+            } else if (firstRank == END) {
+                // equal by value, e.g. 1.01 and 1.1
+                return first.compareTo(second);
+            }
+            var firstEnd = segmentEnd(first, i);
+            var secondEnd = segmentEnd(second, j);
+            var result = firstRank == NUMERIC
+                    ? compareNumeric(first, i, firstEnd, second, j, secondEnd)
+                    : first.substring(i, firstEnd).compareTo(second.substring(j, secondEnd));
+            if (result != 0) {
+                return result;
+            }
+            i = firstEnd;
+            j = secondEnd;
+        }
+    }
+
+    private static int rank(String value, int position) {
+        if (position == value.length()) {
+            return END;
+        }
+        var character = value.charAt(position);
+        if (Character.isDigit(character)) {
+            return NUMERIC;
+        }
+        return character == '-' ? PRE_RELEASE : TEXT;
+    }
+
+    private static int segmentEnd(String value, int start) {
+        var numeric = Character.isDigit(value.charAt(start));
+        var end = start + 1;
+        while (end < value.length() && Character.isDigit(value.charAt(end)) == numeric) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int compareNumeric(String first, int firstStart, int firstEnd, String second, int secondStart, int secondEnd) {
+        while (firstStart < firstEnd - 1 && first.charAt(firstStart) == '0') {
+            firstStart++;
+        }
+        while (secondStart < secondEnd - 1 && second.charAt(secondStart) == '0') {
+            secondStart++;
+        }
+        var lengthDifference = (firstEnd - firstStart) - (secondEnd - secondStart);
+        if (lengthDifference != 0) {
+            return lengthDifference;
+        }
+        for (; firstStart < firstEnd; firstStart++, secondStart++) {
+            var difference = first.charAt(firstStart) - second.charAt(secondStart);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    private VersionOrder() {
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.compact;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactMapTest {
+    private static final SlotLayout LAYOUT = new SlotLayout("fooid", "epoch", "self");
+
+    @Test
+    void verify_slotAndOverflowAttributes() {
+        var map = new CompactMap(LAYOUT);
+
+        assertThat(map.put("epoch", 1)).isNull();
+        assertThat(map.put("extension", "value")).isNull();
+        assertThat(map.put("epoch", 2)).isEqualTo(1);
+
+        assertThat(map).hasSize(2);
+        assertThat(map.get("epoch")).isEqualTo(2);
+        assertThat(map.get("extension")).isEqualTo("value");
+        assertThat(map.get("self")).isNull();
+        assertThat(map.containsKey("self")).isFalse();
+    }
+
+    @Test
+    void verify_nullValues() {
+        var map = new CompactMap(LAYOUT);
+
+        map.put("self", null);
+        map.put("extension", null);
+
+        assertThat(map).hasSize(2).containsEntry("self", null).containsEntry("extension", null);
+        assertThat(map.containsKey("self")).isTrue();
+    }
+
+    @Test
+    void verify_equalsHashMap_iteratesInLayoutOrder() {
+        var source = new LinkedHashMap<String, Object>();
+        source.put("extension", "value");
+        source.put("self", "#/foos/foo1");
+        source.put("fooid", "foo1");
+
+        var map = new CompactMap(LAYOUT, source);
+
+        assertThat(map).isEqualTo(source).hasSameHashCodeAs(source);
+        assertThat(new HashMap<>(source)).isEqualTo(map);
+        assertThat(map.keySet()).containsExactly("fooid", "self", "extension");
+    }
+
+    @Test
+    void verify_remove() {
+        var map = new CompactMap(LAYOUT);
+        map.put("fooid", "foo1");
+        map.put("extension", "value");
+
+        assertThat(map.remove("fooid")).isEqualTo("foo1");
+        assertThat(map.remove("extension")).isEqualTo("value");
+        assertThat(map.remove("epoch")).isNull();
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    void verify_iteratorRemove() {
+        var map = new CompactMap(LAYOUT);
+        map.put("fooid", "foo1");
+        map.put("self", "#/foos/foo1");
+        map.put("extension", "value");
+
+        map.entrySet().removeIf(entry -> !entry.getKey().equals("self"));
+
+        assertThat(map).hasSize(1).containsEntry("self", "#/foos/foo1");
+    }
+
+    @Test
+    void verify_entrySetValue() {
+        var map = new CompactMap(LAYOUT);
+        map.put("epoch", 1);
+
+        map.entrySet().iterator().next().setValue(2);
+
+        assertThat(map.get("epoch")).isEqualTo(2);
+    }
+
+    @Test
+    void verify_duplicateLayoutName_fails() {
+        assertThatThrownBy(() -> new SlotLayout("fooid", "fooid")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
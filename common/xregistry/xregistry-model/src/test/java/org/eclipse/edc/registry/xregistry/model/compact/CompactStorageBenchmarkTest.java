@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.compact;
+
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the retained heap of a registry with 100k versions stored as plain maps and as compact maps.
+ */
+@NightlyTest
+class CompactStorageBenchmarkTest {
+    private static final int GROUPS = 10;
+    private static final int RESOURCES_PER_GROUP = 1000;
+    private static final int VERSIONS_PER_RESOURCE = 10;
+    private static final String TIMESTAMP = "2024-12-19T06:00:00Z";
+
+    @Test
+    void compare_retainedHeap() {
+        var storage = CompactStorage.compile(definition());
+        var baseline = usedHeap();
+
+        var registry = registry();
+        var plain = usedHeap() - baseline;
+
+        var compact = storage.compact(registry);
+        registry = null;
+        var compacted = usedHeap() - baseline;
+
+        assertThat(compact).isNotEmpty();
+        assertThat(plain).isPositive();
+        assertThat(compacted).isLessThan(plain);
+    }
+
+    private static RegistryDefinition definition() {
+        return RegistryDefinition.Builder.newInstance()
+                .group(GroupDefinition.Builder.newInstance()
+                        .singular("foogroup")
+                        .plural("foogroups")
+                        .resource(ResourceDefinition.Builder.newInstance()
+                                .singular("foo")
+                                .plural("foos")
+                                .build())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Creates the registry as parsed by Jackson, i.e. with linked hash maps.
+     */
+    private static Map<String, Object> registry() {
+        var groups = new LinkedHashMap<String, Object>();
+        for (var g = 0; g < GROUPS; g++) {
+            var groupId = "group" + g;
+            var resources = new LinkedHashMap<String, Object>();
+            for (var r = 0; r < RESOURCES_PER_GROUP; r++) {
+                var resourceId = "resource" + r;
+                var versions = new LinkedHashMap<String, Object>();
+                for (var v = 0; v < VERSIONS_PER_RESOURCE; v++) {
+                    var versionId = String.valueOf(v);
+                    var version = new LinkedHashMap<String, Object>();
+                    version.put("fooid", resourceId);
+                    version.put("versionid", versionId);
+                    version.put("self", "#/foogroups/" + groupId + "/foos/" + resourceId + "/versions/" + versionId);
+                    version.put("xid", "/foogroups/" + groupId + "/foos/" + resourceId + "/versions/" + versionId);
+                    version.put("epoch", 1);
+                    version.put("isdefault", v == VERSIONS_PER_RESOURCE - 1);
+                    version.put("createdat", TIMESTAMP);
+                    version.put("modifiedat", TIMESTAMP);
+                    versions.put(versionId, version);
+                }
+                var resource = new LinkedHashMap<String, Object>();
+                resource.put("fooid", resourceId);
+                resource.put("self", "#/foogroups/" + groupId + "/foos/" + resourceId);
+                resource.put("xid", "/foogroups/" + groupId + "/foos/" + resourceId);
+                resource.put("versionscount", VERSIONS_PER_RESOURCE);
+                resource.put("versions", versions);
+                resources.put(resourceId, resource);
+            }
+            var group = new LinkedHashMap<String, Object>();
+            group.put("foogroupid", groupId);
+            group.put("epoch", 1);
+            group.put("fooscount", RESOURCES_PER_GROUP);
+            group.put("foos", resources);
+            groups.put(groupId, group);
+        }
+        var registry = new LinkedHashMap<String, Object>();
+        registry.put("registryid", "benchmark");
+        registry.put("foogroupscount", GROUPS);
+        registry.put("foogroups", groups);
+        return registry;
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
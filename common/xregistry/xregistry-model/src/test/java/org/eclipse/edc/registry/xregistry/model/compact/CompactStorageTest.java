@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.compact;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registry.xregistry.model.typed.TestSerializations.TYPED_REGISTRY;
+import static org.mockito.Mockito.mock;
+
+class CompactStorageTest {
+    private ObjectMapper mapper;
+    private RegistryDefinition definition;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_compact() throws JsonProcessingException {
+        var untyped = (Map<String, Object>) mapper.readValue(TYPED_REGISTRY, Map.class);
+        var expected = mapper.readValue(TYPED_REGISTRY, Map.class);
+
+        var compact = CompactStorage.compile(definition).compact(untyped);
+
+        assertThat(compact).isEqualTo(expected);
+        var group = (Map<String, Object>) ((Map<String, Object>) compact.get("testgroups")).get("test.group1");
+        assertThat(group).isInstanceOf(CompactMap.class);
+        var resource = (Map<String, Object>) ((Map<String, Object>) group.get("entries")).get("entry1");
+        assertThat(resource).isInstanceOf(CompactMap.class);
+        assertThat(((Map<String, Object>) resource.get("versions")).values()).isNotEmpty().allMatch(CompactMap.class::isInstance);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_typedView() throws JsonProcessingException {
+        var untyped = (Map<String, Object>) mapper.readValue(TYPED_REGISTRY, Map.class);
+
+        var registry = TypedRegistry.Builder.newInstance()
+                .untyped(CompactStorage.compile(definition).compact(untyped))
+                .definition(definition)
+                .typeFactory(mock(TypeFactory.class))
+                .build();
+
+        assertThat(registry.getId()).isEqualTo("sample");
+        assertThat(registry.getModifiedAt()).isNotNull();
+        var groups = registry.getGroups("testgroups");
+        assertThat(groups).containsOnlyKeys("test.group1");
+        assertThat(groups.get("test.group1").getId()).isEqualTo("test.group1");
+    }
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper();
+        definition = RegistryDefinition.Builder.newInstance()
+                .group(GroupDefinition.Builder.newInstance()
+                        .singular("testgroup")
+                        .plural("testgroups")
+                        .resource(ResourceDefinition.Builder.newInstance()
+                                .singular("entry")
+                                .plural("entries")
+                                .build())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.compact;
+
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringTableTest {
+
+    @Test
+    void verify_canonicalize() {
+        var table = new StringTable(10, 20);
+        var first = new String("2024-12-19T06:00:00Z");
+        var second = new String("2024-12-19T06:00:00Z");
+
+        assertThat(table.canonicalize(first)).isSameAs(first);
+        assertThat(table.canonicalize(second)).isSameAs(first);
+    }
+
+    @Test
+    void verify_bounds() {
+        var table = new StringTable(1, 5);
+        var tooLong = new String("abcdef");
+
+        assertThat(table.canonicalize(tooLong)).isSameAs(tooLong);
+        assertThat(table.size()).isZero();
+
+        table.canonicalize("a");
+        var unknown = new String("b");
+        assertThat(table.canonicalize(unknown)).isSameAs(unknown);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_seededWithDefinitionNames() {
+        var definition = RegistryDefinition.Builder.newInstance()
+                .group(GroupDefinition.Builder.newInstance()
+                        .singular("foogroup")
+                        .plural("foogroups")
+                        .build())
+                .build();
+
+        var table = StringTable.forDefinition(definition);
+
+        assertThat(table.canonicalize(new String("foogroupid"))).isSameAs("foogroupid");
+        assertThat(table.canonicalize(new String("foogroups"))).isSameAs("foogroups");
+    }
+
+    @Test
+    void verify_canonicalizeValues() {
+        var table = new StringTable(100, 64);
+        var documents = new ArrayList<Map<String, Object>>();
+        for (var i = 0; i < 2; i++) {
+            var labels = new HashMap<String, Object>();
+            labels.put("env", new String("prod"));
+            var document = new HashMap<String, Object>();
+            document.put("createdat", new String("2024-12-19T06:00:00Z"));
+            document.put("self", new String("#/foogroups/group"));
+            document.put("foosurl", new String("#/foogroups/group/foos"));
+            document.put("labels", labels);
+            document.put("tags", new ArrayList<>(List.of(new String("a"))));
+            table.canonicalizeValues(document);
+            documents.add(document);
+        }
+
+        var first = documents.get(0);
+        var second = documents.get(1);
+        assertThat(((Map<?, ?>) second.get("labels")).get("env")).isSameAs(((Map<?, ?>) first.get("labels")).get("env"));
+        assertThat(((List<?>) second.get("tags")).get(0)).isSameAs(((List<?>) first.get("tags")).get(0));
+        assertThat(second.get("self")).isNotSameAs(first.get("self"));
+        assertThat(second.get("foosurl")).isNotSameAs(first.get("foosurl"));
+        assertThat(second.get("createdat")).isNotSameAs(first.get("createdat"));
+        assertThat(table.size()).isEqualTo(2);
+    }
+}
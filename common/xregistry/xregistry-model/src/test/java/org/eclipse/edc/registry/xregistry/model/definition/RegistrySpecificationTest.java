@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.definition;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegistrySpecificationTest {
+
+    @Test
+    void verify_registryDefinition_cachedUntilGroupRegistered() {
+        var specification = new RegistrySpecification("https://test.com");
+        var definition = specification.getRegistryDefinition();
+
+        assertThat(specification.getRegistryDefinition()).isSameAs(definition);
+
+        specification.registerGroup(GroupDefinition.Builder.newInstance()
+                .singular("foogroup")
+                .plural("foogroups")
+                .build());
+
+        var updated = specification.getRegistryDefinition();
+        assertThat(updated).isNotSameAs(definition);
+        assertThat(updated.getGroups()).containsOnlyKeys("foogroups");
+        assertThat(specification.getRegistryDefinition()).isSameAs(updated);
+    }
+
+    @Test
+    void verify_registryDefinition_unmodifiable() {
+        var definition = new RegistrySpecification("https://test.com").getRegistryDefinition();
+
+        assertThatThrownBy(() -> definition.getGroups().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> definition.getAttributes().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -16,10 +16,26 @@ package org.eclipse.edc.registry.xregistry.model.definition;
 
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class ResourceDefinitionTest {
 
     @Test
     void verify_build() {
         AttributeDefinition.Builder.newInstance().name("foo").build();
     }
+
+    @Test
+    void verify_keys() {
+        var definition = ResourceDefinition.Builder.newInstance()
+                .singular("foo")
+                .plural("foos")
+                .build();
+
+        assertThat(definition.getIdKey()).isEqualTo("fooid");
+        assertThat(definition.getCountKey()).isEqualTo("fooscount");
+        assertThat(definition.getUrlKey()).isEqualTo("foosurl");
+        assertThat(definition.getAttributes()).containsKey("fooid");
+        assertThat(definition.getVersionDefinition().getIdKey()).isEqualTo("versionid");
+    }
 }
\ No newline at end of file
@@ -19,6 +19,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -46,6 +49,74 @@ class TypeFactoryImplTest {
         assertThatThrownBy(() -> factory.instantiate(Map.of(), definition)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void verify_instantiatorResolvedOncePerDefinition() {
+        var definition = ResourceDefinition.Builder.newInstance()
+                .singular("resource")
+                .plural("resources")
+                .build();
+
+        assertThat(factory.isResolved(definition)).isFalse();
+
+        factory.instantiate(Map.of(), definition);
+        factory.instantiate(Map.of(), definition);
+
+        assertThat(factory.isResolved(definition)).isTrue();
+    }
+
+    @Test
+    void verify_registrationAfterResolve_takesEffect() {
+        var definition = ResourceDefinition.Builder.newInstance()
+                .singular("resource")
+                .plural("resources")
+                .build();
+        factory.instantiate(Map.of(), definition);
+        var invocations = new AtomicInteger();
+
+        factory.registerResource("resource", TypedMockResource.class, (untyped, resourceDefinition, typeFactory) -> {
+            invocations.incrementAndGet();
+            return new TypedMockResource(untyped, resourceDefinition, typeFactory);
+        });
+        factory.instantiate(Map.of(), definition);
+
+        assertThat(invocations).hasValue(1);
+        assertThat(factory.getResourceType("resource")).isEqualTo(TypedMockResource.class);
+    }
+
+    @Test
+    void verify_concurrentRegistration() throws InterruptedException {
+        var definition = ResourceDefinition.Builder.newInstance()
+                .singular("resource")
+                .plural("resources")
+                .build();
+        var pool = Executors.newFixedThreadPool(4);
+        var failures = new AtomicInteger();
+        try {
+            for (var i = 0; i < 100; i++) {
+                var name = "type" + i;
+                pool.execute(() -> factory.registerResource(name, TypedMockResource::new));
+                pool.execute(() -> {
+                    try {
+                        factory.instantiate(Map.of(), definition);
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(failures).hasValue(0);
+        for (var i = 0; i < 100; i++) {
+            assertThat(factory.instantiate(Map.of(), ResourceDefinition.Builder.newInstance()
+                    .singular("type" + i)
+                    .plural("types" + i)
+                    .build())).isNotNull();
+        }
+    }
+
     @BeforeEach
     void setUp() {
         factory = new TypeFactoryImpl();
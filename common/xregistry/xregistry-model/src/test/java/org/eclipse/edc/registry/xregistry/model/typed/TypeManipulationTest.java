@@ -84,6 +84,26 @@ class TypeManipulationTest {
         assertThat(registry.getGroups(TESTGROUPS).get("test.group2")).isNotNull();
     }
 
+    @Test
+    void verify_groupsMemoized() {
+        var group = registry.getGroups(TESTGROUPS).get("test.group1");
+
+        assertThat(registry.getGroups(TESTGROUPS).get("test.group1")).isSameAs(group);
+        assertThat(registry.getGroups("unknown")).isEmpty();
+    }
+
+    @Test
+    void verify_resourceBuilder_invalidatesContainingViews() {
+        TypedGroup group = registry.getGroups(TESTGROUPS).get("test.group1");
+        TypedMockResource resource = group.getResource("entry1");
+
+        resource.toBuilder().id("entry2").build();
+
+        assertThat(registry.getGroups(TESTGROUPS).get("test.group1")).isNotSameAs(group);
+        assertThat(registry.getGroups(TESTGROUPS).get("test.group1").getResources()).containsOnlyKeys("entry2");
+        assertThat(group.getResources()).containsOnlyKeys("entry2");
+    }
+
     @Test
     void verify_modifyScalars() {
         registry.toBuilder()
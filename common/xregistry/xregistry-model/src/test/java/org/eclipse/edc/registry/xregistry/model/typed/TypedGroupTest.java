@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.registry.xregistry.model.typed.TestSerializations.TYPED_GROUP;
@@ -74,6 +75,69 @@ class TypedGroupTest {
         assertThat(resources).allMatch(r -> r.getId().equals("entry2"));
     }
 
+    @Test
+    void verify_resourcesMemoized() {
+        TypedMockResource resource = group.getResource("entry1");
+
+        assertThat(group.<TypedMockResource>getResource("entry1")).isSameAs(resource);
+        assertThat(group.getResources().get("entry1")).isSameAs(resource);
+        assertThat(group.getResourcesOfType(TypedMockResource.class)).containsExactly(resource);
+        assertThat(group.getResources()).doesNotContainKey("unknown");
+    }
+
+    @Test
+    void verify_builderInvalidatesSource() {
+        var before = group.getResources();
+        var resource = TypedMockResource.Builder
+                .newInstance()
+                .untyped(Map.of("entryid", "entry2"))
+                .definition(resourceDefinition)
+                .typeFactory(typeFactory)
+                .build();
+
+        group.toBuilder().resource(resource).build();
+
+        assertThat(before).hasSize(1);
+        assertThat(group.getResources()).containsOnlyKeys("entry1", "entry2");
+        assertThat(group.getResourcesOfType(TypedMockResource.class)).hasSize(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_resourcesOfType_skipsOtherTypes() throws JsonProcessingException {
+        var instantiations = new AtomicInteger();
+        typeFactory.registerResource("entry", TypedMockResource.class, TypedMockResource::new);
+        typeFactory.registerResource("other", OtherResource.class, (untyped, definition, factory) -> {
+            instantiations.incrementAndGet();
+            return new OtherResource(untyped, definition, factory);
+        });
+        var otherDefinition = ResourceDefinition.Builder.newInstance()
+                .singular("other")
+                .plural("others")
+                .build();
+        var untyped = new ObjectMapper().readValue(TYPED_GROUP, Map.class);
+        untyped.put("others", Map.of("other1", Map.of("otherid", "other1"), "other2", Map.of("otherid", "other2")));
+        var mixedGroup = TypedGroup.Builder.newInstance()
+                .untyped(untyped)
+                .definition(GroupDefinition.Builder.newInstance()
+                        .singular("testgroup")
+                        .plural("testgroups")
+                        .resource(resourceDefinition)
+                        .resource(otherDefinition)
+                        .build())
+                .typeFactory(typeFactory)
+                .build();
+
+        assertThat(mixedGroup.getResourcesOfType(TypedMockResource.class)).extracting(AbstractType::getId).containsExactly("entry1");
+        assertThat(instantiations).hasValue(0);
+
+        assertThat(mixedGroup.getResourcesOfType(OtherResource.class)).hasSize(2);
+        assertThat(mixedGroup.<OtherResource>getResources("others")).containsOnlyKeys("other1", "other2");
+        assertThat(mixedGroup.getResources("unknown")).isEmpty();
+        assertThat(mixedGroup.getResources()).containsOnlyKeys("entry1", "other1", "other2");
+        assertThat(instantiations).hasValue(2);
+    }
+
     @BeforeEach
     @SuppressWarnings("unchecked")
     void setUp() throws JsonProcessingException {
@@ -100,4 +164,10 @@ class TypedGroupTest {
 
     }
 
-}
\ No newline at end of file
+    private static class OtherResource extends TypedMockResource {
+        OtherResource(Map<String, Object> untyped, ResourceDefinition definition, TypeFactory typeFactory) {
+            super(untyped, definition, typeFactory);
+        }
+    }
+
+}
@@ -33,7 +33,8 @@ public class TypedMockResource extends TypedResource<TypedMockVersion> {
         return Builder.newInstance()
                 .untyped(untyped)
                 .definition(definition)
-                .typeFactory(typeFactory);
+                .typeFactory(typeFactory)
+                .source(this);
     }
 
     public static class Builder extends TypedResource.Builder<TypedMockVersion, Builder> {
@@ -32,7 +32,8 @@ public class TypedMockVersion extends TypedVersion {
         return Builder.newInstance()
                 .untyped(untyped)
                 .definition(definition)
-                .typeFactory(typeFactory);
+                .typeFactory(typeFactory)
+                .source(this);
     }
 
     public static class Builder extends TypedVersion.Builder<VersionDefinition, Builder> {
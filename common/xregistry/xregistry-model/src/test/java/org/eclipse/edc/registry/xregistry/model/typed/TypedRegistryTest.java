@@ -49,6 +49,52 @@ public class TypedRegistryTest {
         assertThat(registry.getXid()).isNotNull();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_parsedValues_cachedUntilModified() throws JsonProcessingException {
+        var untyped = mapper.readValue(TYPED_REGISTRY, Map.class);
+
+        var registry = TypedRegistry.Builder.newInstance()
+                .untyped(untyped)
+                .definition(RegistryDefinition.Builder.newInstance().build())
+                .typeFactory(mock(TypeFactory.class))
+                .build();
+
+        var modifiedAt = registry.getModifiedAt();
+        var url = registry.getUrl();
+        assertThat(registry.getModifiedAt()).isSameAs(modifiedAt);
+        assertThat(registry.getUrl()).isSameAs(url);
+
+        var updated = modifiedAt.plusSeconds(60);
+        registry.toBuilder().modifiedAt(updated).build();
+        assertThat(registry.getModifiedAt()).isEqualTo(updated);
+
+        // raw values changed without a builder are detected as well
+        untyped.put("modifiedat", modifiedAt.toString());
+        assertThat(registry.getModifiedAt()).isEqualTo(modifiedAt);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_parsedValues_moreKeysThanSlots() throws JsonProcessingException {
+        var untyped = mapper.readValue(TYPED_REGISTRY, Map.class);
+        for (var i = 0; i < 10; i++) {
+            untyped.put("link" + i, "https://test.com/" + i);
+        }
+
+        var registry = TypedRegistry.Builder.newInstance()
+                .untyped(untyped)
+                .definition(RegistryDefinition.Builder.newInstance().build())
+                .typeFactory(mock(TypeFactory.class))
+                .build();
+
+        for (var round = 0; round < 2; round++) {
+            for (var i = 0; i < 10; i++) {
+                assertThat(registry.getUrl("link" + i)).hasToString("https://test.com/" + i);
+            }
+        }
+    }
+
     @BeforeEach
     void setUp() {
         mapper = new ObjectMapper();
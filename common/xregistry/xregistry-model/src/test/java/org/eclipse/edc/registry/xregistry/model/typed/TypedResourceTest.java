@@ -22,6 +22,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,6 +55,43 @@ class TypedResourceTest {
         assertThat(versions.iterator().next().getEntryDefinition()).isNotNull();
     }
 
+    @Test
+    void verify_latestVersion_numericOrder() {
+        resource.toBuilder()
+                .version("9", version("9", false))
+                .version("10", version("10", false))
+                .build();
+
+        assertThat(resource.getLatestVersion().getId()).isEqualTo("10");
+        assertThat(resource.getDefaultVersion().getId()).isEqualTo("1.0");
+    }
+
+    @Test
+    void verify_defaultVersion_withoutFlag_isLatest() {
+        resource.toBuilder()
+                .removeVersion("1.0")
+                .removeVersion("0.2")
+                .version("2.0-beta", version("2.0-beta", false))
+                .version("1.10", version("1.10", false))
+                .build();
+
+        assertThat(resource.getLatestVersion().getId()).isEqualTo("2.0-beta");
+        assertThat(resource.getDefaultVersion()).isSameAs(resource.getLatestVersion());
+    }
+
+    @Test
+    void verify_versionsCached_untilModified() {
+        var versions = resource.getVersions();
+
+        assertThat(resource.getVersions()).isSameAs(versions);
+        assertThat(resource.getLatestVersion()).isSameAs(versions.get("1.0"));
+
+        resource.toBuilder().version("2.0", version("2.0", true)).build();
+
+        assertThat(resource.getVersions()).isNotSameAs(versions).hasSize(versions.size() + 1);
+        assertThat(resource.getDefaultVersion().getId()).isEqualTo("2.0");
+    }
+
     @Test
     void verify_modify() {
         resource.toBuilder().removeVersion("1.0").build();
@@ -72,6 +110,19 @@ class TypedResourceTest {
         assertThat(resource.getVersions().size()).isEqualTo(2);
     }
 
+    private TypedMockVersion version(String id, boolean isDefault) {
+        var untyped = new HashMap<String, Object>();
+        untyped.put("versionid", id);
+        untyped.put("isdefault", isDefault);
+        return TypedMockVersion.Builder.newInstance()
+                .typeFactory(typeFactory)
+                .untyped(untyped)
+                .definition(VersionDefinition.Builder.newInstance()
+                        .resourceName("entry")
+                        .build())
+                .build();
+    }
+
     @BeforeEach
     @SuppressWarnings("unchecked")
     void setUp() throws JsonProcessingException {
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.xregistry.model.typed;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionOrderTest {
+
+    @Test
+    void verify_order() {
+        var versions = new ArrayList<>(List.of("10", "1.0", "2", "1.0-beta", "1.0.1", "9", "1.0-alpha", "1.a", "01.1"));
+
+        versions.sort(VersionOrder.COMPARATOR);
+
+        assertThat(versions).containsExactly("1.0-alpha", "1.0-beta", "1.0", "1.0.1", "01.1", "1.a", "2", "9", "10");
+    }
+
+    @Test
+    void verify_preReleaseAndBuildMetadata() {
+        var versions = new ArrayList<>(List.of("1.0+build", "1.0", "1.0-rc", "1.0.1", "1.0-rc+build"));
+
+        versions.sort(VersionOrder.COMPARATOR);
+
+        assertThat(versions).containsExactly("1.0-rc", "1.0-rc+build", "1.0", "1.0+build", "1.0.1");
+    }
+
+    @Test
+    void verify_transitive() {
+        var random = new Random(42);
+        var tokens = List.of("0", "1", "01", "10", "2", ".", "-", "-rc", "+", "+build", "a", "_", ",");
+        var versions = new ArrayList<String>();
+        for (var i = 0; i < 150; i++) {
+            var version = new StringBuilder();
+            var length = 1 + random.nextInt(5);
+            for (var j = 0; j < length; j++) {
+                version.append(tokens.get(random.nextInt(tokens.size())));
+            }
+            versions.add(version.toString());
+        }
+
+        for (var first : versions) {
+            for (var second : versions) {
+                var comparison = Integer.signum(VersionOrder.compare(first, second));
+                assertThat(Integer.signum(VersionOrder.compare(second, first))).isEqualTo(-comparison);
+                if (comparison > 0) {
+                    continue;
+                }
+                for (var third : versions) {
+                    if (VersionOrder.compare(second, third) <= 0) {
+                        assertThat(VersionOrder.compare(first, third)).as("%s <= %s <= %s", first, second, third).isNotPositive();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void verify_equalByValue_totalOrder() {
+        assertThat(VersionOrder.compare("1.01", "1.1")).isNotZero();
+        assertThat(VersionOrder.compare("1.01", "1.1")).isEqualTo(-VersionOrder.compare("1.1", "1.01"));
+        assertThat(VersionOrder.compare("1.1", "1.1")).isZero();
+    }
+
+    @Test
+    void verify_defaultVersion() {
+        assertThat(VersionOrder.defaultVersion(Map.of())).isNull();
+        assertThat(VersionOrder.defaultVersion(Map.of("9", Map.of(), "10", Map.of()))).isEqualTo("10");
+        assertThat(VersionOrder.defaultVersion(Map.of("9", Map.of("isdefault", true), "10", Map.of("isdefault", false)))).isEqualTo("9");
+    }
+}
@@ -29,7 +29,8 @@ public class TypedPolicyResource extends TypedResource<TypedPolicyVersion> {
         return Builder.newInstance()
                 .untyped(untyped)
                 .definition(definition)
-                .typeFactory(typeFactory);
+                .typeFactory(typeFactory)
+                .source(this);
     }
 
     public TypedPolicyResource(Map<String, Object> untyped, ResourceDefinition definition, TypeFactory typeFactory) {
@@ -49,7 +49,8 @@ public class TypedPolicyVersion extends TypedVersion {
         return Builder.newInstance()
                 .untyped(untyped)
                 .definition(definition)
-                .typeFactory(typeFactory);
+                .typeFactory(typeFactory)
+                .source(this);
     }
 
     public static class Builder extends TypedVersion.Builder<VersionDefinition, Builder> {
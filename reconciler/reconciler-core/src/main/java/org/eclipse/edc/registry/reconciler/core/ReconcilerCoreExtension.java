@@ -15,6 +15,8 @@
 package org.eclipse.edc.registry.reconciler.core;
 
 import org.eclipse.edc.registry.reconciler.core.registry.ResourceReconcilerRegistryImpl;
+import org.eclipse.edc.registry.reconciler.core.state.InMemoryReconciliationStateStore;
+import org.eclipse.edc.registry.spi.reconciler.ReconciliationStateStore;
 import org.eclipse.edc.registry.spi.reconciler.ResourceReconcilerRegistry;
 import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
 import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
@@ -31,6 +33,7 @@ public class ReconcilerCoreExtension implements ServiceExtension {
     private String registryUrl;
 
     private RegistrySpecification specification;
+    private TypeFactory typeFactory;
 
     @Override
     public String name() {
@@ -39,7 +42,10 @@ public class ReconcilerCoreExtension implements ServiceExtension {
 
     @Provider
     public TypeFactory typeFactory() {
-        return new TypeFactoryImpl();
+        if (typeFactory == null) {
+            typeFactory = new TypeFactoryImpl();
+        }
+        return typeFactory;
     }
 
     @Provider
@@ -47,6 +53,11 @@ public class ReconcilerCoreExtension implements ServiceExtension {
         return new ResourceReconcilerRegistryImpl();
     }
 
+    @Provider(isDefault = true)
+    public ReconciliationStateStore stateStore() {
+        return new InMemoryReconciliationStateStore();
+    }
+
     @Provider
     public RegistrySpecification getSpecification() {
         if (specification == null) {
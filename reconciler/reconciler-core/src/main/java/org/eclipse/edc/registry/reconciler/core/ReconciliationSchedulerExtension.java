@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core;
+
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.registry.reconciler.core.manager.ReconcilerExecutor;
+import org.eclipse.edc.registry.reconciler.core.manager.ReconciliationManager;
+import org.eclipse.edc.registry.reconciler.core.scheduler.ReconciliationScheduler;
+import org.eclipse.edc.registry.reconciler.core.scheduler.SchedulerConfig;
+import org.eclipse.edc.registry.spi.reconciler.ReconciliationStateStore;
+import org.eclipse.edc.registry.spi.reconciler.ResourceReconcilerRegistry;
+import org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.ViolationLimit;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Periodically runs reconciliation cycles against the registry.
+ * <p>
+ * The extension is registered through the {@code ServiceExtension} service loader file of this module, so adding the
+ * module to a runtime starts polling the registry once the runtime has started, without further configuration.
+ */
+public class ReconciliationSchedulerExtension implements ServiceExtension {
+
+    @Setting(description = "Delay in seconds between reconciliation cycles", key = "edc.reconciler.period", defaultValue = "60", min = 1)
+    private long period;
+
+    @Setting(description = "Delay in seconds before the first reconciliation cycle", key = "edc.reconciler.initial.delay", defaultValue = "5", min = 0)
+    private long initialDelay;
+
+    @Setting(description = "Maximum random delay in seconds added to each reconciliation cycle", key = "edc.reconciler.jitter", defaultValue = "10", min = 0)
+    private long jitter;
+
+    @Setting(description = "Maximum delay in seconds between reconciliation cycles after consecutive failures", key = "edc.reconciler.backoff.max", defaultValue = "900", min = 1)
+    private long maxBackoff;
+
+    @Setting(description = "Reads the registry as a token stream", key = "edc.reconciler.streaming", defaultValue = "false")
+    private boolean streaming;
+
+    @Setting(description = "Stores registry entries in compact maps laid out according to their type definitions", key = "edc.reconciler.storage.compact", defaultValue = "false")
+    private boolean compactStorage;
+
+    @Setting(description = "Maximum number of distinct strings used to deduplicate registry values. If 0, values are not deduplicated", key = "edc.reconciler.strings.max", defaultValue = "65536", min = 0)
+    private int stringTableSize;
+
+    @Setting(description = "Maximum number of resources per type to request per page. If 0, the complete registry is requested", key = "edc.reconciler.page.size", defaultValue = "0")
+    private int pageSize;
+
+    @Setting(description = "Maximum number of reconcilers executed in parallel", key = "edc.reconciler.parallelism", defaultValue = "4", min = 1)
+    private int parallelism;
+
+    @Setting(description = "Maximum number of violations reported when registry data is invalid. If 0, all violations are reported", key = "edc.reconciler.validation.violations.max", defaultValue = "1", min = 0)
+    private int maxViolations;
+
+    @Setting(description = "Number of threads used to validate registry data that is not streamed. If 1, registry data is validated sequentially", key = "edc.reconciler.validation.parallelism", defaultValue = "1", min = 1)
+    private int validationParallelism;
+
+    @Inject
+    private ResourceReconcilerRegistry reconcilerRegistry;
+
+    @Inject
+    private RegistrySpecification specification;
+
+    @Inject
+    private TypeFactory typeFactory;
+
+    @Inject
+    private EdcHttpClient httpClient;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private ReconciliationStateStore stateStore;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Monitor monitor;
+
+    private ScheduledExecutorService executor;
+    private ExecutorService workers;
+    private ForkJoinPool validationPool;
+    private ReconciliationScheduler scheduler;
+
+    @Override
+    public String name() {
+        return "Reconciliation Scheduler";
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        workers = executorInstrumentation.instrument(Executors.newFixedThreadPool(parallelism), "reconciler-workers");
+        validationPool = validationParallelism > 1 ? new ForkJoinPool(validationParallelism) : null;
+        var manager = ReconciliationManager.Builder.newInstance()
+                .reconcilerRegistry(reconcilerRegistry)
+                .specification(specification)
+                .typeFactory(typeFactory)
+                .httpClient(httpClient)
+                .typeManager(typeManager)
+                .monitor(monitor)
+                .stateStore(stateStore)
+                .streaming(streaming)
+                .compactStorage(compactStorage)
+                .stringTableSize(stringTableSize)
+                .pageSize(pageSize)
+                .validationExecutor(validationPool)
+                .violationLimit(maxViolations == 0 ? ViolationLimit.FULL : ViolationLimit.max(maxViolations))
+                .reconcilerExecutor(new ReconcilerExecutor(workers, monitor))
+                .build();
+        var config = schedulerConfig();
+        executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "reconciler");
+        scheduler = new ReconciliationScheduler(manager::reconcile, executor, config, bound -> ThreadLocalRandom.current().nextLong(bound), monitor);
+    }
+
+    private SchedulerConfig schedulerConfig() {
+        try {
+            return new SchedulerConfig(Duration.ofSeconds(period),
+                    Duration.ofSeconds(initialDelay),
+                    Duration.ofSeconds(jitter),
+                    Duration.ofSeconds(maxBackoff));
+        } catch (IllegalArgumentException e) {
+            throw new EdcException("Invalid reconciliation schedule, check edc.reconciler.period, edc.reconciler.initial.delay, " +
+                    "edc.reconciler.jitter and edc.reconciler.backoff.max: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler.start();
+    }
+
+    @Override
+    public void shutdown() {
+        scheduler.stop();
+        executor.shutdownNow();
+        workers.shutdownNow();
+        if (validationPool != null) {
+            validationPool.shutdownNow();
+        }
+    }
+}
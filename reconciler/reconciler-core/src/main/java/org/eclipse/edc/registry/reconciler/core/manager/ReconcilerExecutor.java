@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.manager;
+
+import org.eclipse.edc.registry.spi.reconciler.ResourceReconciler;
+import org.eclipse.edc.registry.spi.reconciler.ResourceReconcilerRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.lang.String.join;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Executes reconcilers over their dependency graph.
+ * <p>
+ * A reconciler is started as soon as the reconcilers of its {@link ResourceReconciler#dependentResources()} have
+ * completed, so independent reconcilers run in parallel and the total execution time approaches the critical path of the
+ * graph. Concurrency is bounded by the supplied executor. If a dependency fails or is skipped, the reconciler is
+ * skipped and reported as failed, so that it never operates on resources its dependencies could not reconcile. The
+ * dependency graph is derived from the reconcilers ordered by {@link ResourceReconcilerRegistry#getReconcilers()}. Using
+ * a direct executor results in sequential execution in dependency order.
+ */
+public class ReconcilerExecutor {
+    private final Executor executor;
+    private final Monitor monitor;
+
+    public ReconcilerExecutor(Executor executor, Monitor monitor) {
+        this.executor = requireNonNull(executor, "executor");
+        this.monitor = requireNonNull(monitor, "monitor");
+    }
+
+    /**
+     * Returns an executor that invokes reconcilers sequentially on the calling thread.
+     */
+    public static ReconcilerExecutor sequential(Monitor monitor) {
+        return new ReconcilerExecutor(Runnable::run, monitor);
+    }
+
+    /**
+     * Invokes the reconcilers and waits for their completion.
+     *
+     * @param reconcilers the reconcilers ordered by their dependencies
+     * @param action      the operation to perform on each reconciler
+     * @return the outcome of each reconciler in the order of the supplied list
+     * @throws IllegalArgumentException if a reconciler precedes one of its dependencies in the list
+     */
+    public List<ReconcilerRun> execute(List<ResourceReconciler> reconcilers, Function<ResourceReconciler, ServiceResult<Void>> action) {
+        var types = reconcilers.stream().map(ResourceReconciler::resourceType).collect(toSet());
+        var futures = new HashMap<String, CompletableFuture<ReconcilerRun>>();
+        for (var reconciler : reconcilers) {
+            var dependencies = reconciler.dependentResources().stream()
+                    .filter(types::contains)
+                    .map(type -> {
+                        var dependency = futures.get(type);
+                        if (dependency == null) {
+                            throw new IllegalArgumentException("Reconciler %s precedes its dependency %s".formatted(reconciler.resourceType(), type));
+                        }
+                        return dependency;
+                    })
+                    .toList();
+            var future = CompletableFuture.allOf(dependencies.toArray(CompletableFuture<?>[]::new))
+                    .thenApplyAsync(v -> invokeOrSkip(reconciler, dependencies, action), executor);
+            futures.put(reconciler.resourceType(), future);
+        }
+        return reconcilers.stream().map(reconciler -> futures.get(reconciler.resourceType()).join()).toList();
+    }
+
+    private ReconcilerRun invokeOrSkip(ResourceReconciler reconciler,
+                                       List<CompletableFuture<ReconcilerRun>> dependencies,
+                                       Function<ResourceReconciler, ServiceResult<Void>> action) {
+        var failed = new ArrayList<String>();
+        for (var dependency : dependencies) {
+            var run = dependency.join();
+            if (run.result().failed()) {
+                failed.add(run.resourceType());
+            }
+        }
+        if (failed.isEmpty()) {
+            return invoke(reconciler, action);
+        }
+        monitor.warning("Skipping reconciler for resource type %s since its dependencies failed: %s".formatted(reconciler.resourceType(), join(", ", failed)));
+        return new ReconcilerRun(reconciler.resourceType(), ServiceResult.unexpected("Dependencies failed: " + join(", ", failed)), Duration.ZERO);
+    }
+
+    private ReconcilerRun invoke(ResourceReconciler reconciler, Function<ResourceReconciler, ServiceResult<Void>> action) {
+        var start = System.nanoTime();
+        ServiceResult<Void> result;
+        try {
+            result = action.apply(reconciler);
+        } catch (RuntimeException e) {
+            monitor.severe("Reconciler for resource type %s threw an exception".formatted(reconciler.resourceType()), e);
+            result = ServiceResult.unexpected(e.getMessage());
+        }
+        var duration = Duration.ofNanos(System.nanoTime() - start);
+        monitor.debug(() -> "Reconciler for resource type %s completed in %d ms".formatted(reconciler.resourceType(), duration.toMillis()));
+        return new ReconcilerRun(reconciler.resourceType(), result, duration);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.manager;
+
+import org.eclipse.edc.spi.result.ServiceResult;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a reconciler invocation.
+ *
+ * @param resourceType the resource type of the reconciler
+ * @param result       the reconciliation result
+ * @param duration     the time spent in the reconciler
+ */
+public record ReconcilerRun(String resourceType, ServiceResult<Void> result, Duration duration) {
+}
@@ -14,36 +14,99 @@
 
 package org.eclipse.edc.registry.reconciler.core.manager;
 
+import okhttp3.HttpUrl;
 import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.registry.spi.reconciler.ReconciliationContext;
+import org.eclipse.edc.registry.spi.reconciler.ReconciliationStateStore;
 import org.eclipse.edc.registry.spi.reconciler.ResourceReconciler;
 import org.eclipse.edc.registry.spi.reconciler.ResourceReconcilerRegistry;
-import org.eclipse.edc.registry.xregistry.library.validation.AttributeValidator;
-import org.eclipse.edc.registry.xregistry.library.validation.GroupValidator;
-import org.eclipse.edc.registry.xregistry.library.validation.RegistryValidator;
+import org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.ViolationLimit;
+import org.eclipse.edc.registry.xregistry.library.validation.ValidationPlan;
 import org.eclipse.edc.registry.xregistry.library.validation.ValidationResult;
+import org.eclipse.edc.registry.xregistry.model.compact.CompactMap;
+import org.eclipse.edc.registry.xregistry.model.compact.CompactStorage;
+import org.eclipse.edc.registry.xregistry.model.compact.StringTable;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
 import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
 import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
 import org.eclipse.edc.registry.xregistry.model.typed.TypedRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
 
 import static java.lang.String.join;
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.spi.result.ServiceResult.badRequest;
+import static org.eclipse.edc.spi.result.ServiceResult.conflict;
+import static org.eclipse.edc.spi.result.ServiceResult.success;
+import static org.eclipse.edc.spi.result.ServiceResult.unexpected;
 
 /**
  * Periodically performs reconciliation by delegating to an ordered list of {@link ResourceReconciler}s.
+ * <p>
+ * If a page size is configured, the registry is requested page by page by following the {@code next} relation of the
+ * {@code Link} response header until no further page is available. Pages must carry the entity tag of the first page.
+ * If a page carries a different tag or the registry rejects the page with {@code 409 Conflict}, the registry was
+ * modified while it was read and the cycle is aborted.
+ * <p>
+ * The entity tag of the last successfully reconciled registry is sent with the first request. If the registry has not
+ * been modified since, reconciliation is skipped.
+ * <p>
+ * If a {@link ReconciliationStateStore} is configured, reconciliation is incremental: the registry is compared to the
+ * last applied state and reconcilers are only invoked for registry data containing changes. The changes are passed via
+ * the {@link ReconciliationContext}. Removed resources are dispatched after all registry data has been read, provided
+ * the data is known to be a consistent view of the registry, that is, it was read with a single request or all pages
+ * carried the same entity tag. Otherwise, removals are deferred: resources not read remain in the applied state. The
+ * applied state is only updated if all reconcilers succeed.
+ * <p>
+ * Registry data is validated with a {@link ValidationPlan} that is compiled once and reused across cycles until the
+ * registry definition of the specification changes. By default, validation stops at the first violation since a single
+ * violation aborts the cycle. If a validation executor is configured, registry data read at once is validated in
+ * parallel. Registry data read as a stream is validated per resource as it is parsed and dispatched in batches per group.
+ * Batches dispatched before a violation is read have already been passed to reconcilers when the cycle is aborted.
+ * Since the applied state and the entity tag are not updated, they are dispatched again with the next cycle.
+ * <p>
+ * If compact storage is enabled, validated registry data is converted to {@link CompactMap}s before it is passed to
+ * reconcilers, reducing the heap retained by reconcilers holding on to registry entries. Repeated string values of
+ * validated registry data are deduplicated with a bounded {@link StringTable} that is created for each cycle, so that
+ * strings of previous cycles are not retained by the table.
  */
 public class ReconciliationManager implements Runnable {
+    private static final String LINK_HEADER = "Link";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final int NOT_MODIFIED = 304;
+    private static final int CONFLICT = 409;
+    private static final String MODIFIED_WHILE_READING = "Registry was modified while it was read. Aborting reconciliation.";
+    private static final String LIMIT_PARAM = "limit";
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]*)>\\s*;[^,]*rel=\"?next\"?");
+
     private ResourceReconcilerRegistry reconcilerRegistry;
     private RegistrySpecification specification;
-    private final TypeFactory typeFactory;
-    private final EdcHttpClient httpClient;
-    private final TypeManager typeManager;
+    private TypeFactory typeFactory;
+    private EdcHttpClient httpClient;
+    private TypeManager typeManager;
+    private boolean streaming;
+    private boolean compactStorage;
+    private int stringTableSize = StringTable.DEFAULT_MAX_SIZE;
+    private int pageSize;
+    private ViolationLimit violationLimit = ViolationLimit.FAIL_FAST;
+    private Executor validationExecutor;
     private Monitor monitor;
+    private ReconciliationStateStore stateStore;
+    private ReconcilerExecutor reconcilerExecutor;
+    private volatile String entityTag;
+    private volatile CompiledPlan compiledPlan;
 
     public ReconciliationManager(ResourceReconcilerRegistry reconcilerRegistry,
                                  RegistrySpecification specification,
@@ -55,64 +118,330 @@ public class ReconciliationManager implements Runnable {
         this.specification = specification;
         this.typeFactory = typeFactory;
         this.httpClient = httpClient;
-        var paginate = true;
         this.typeManager = typeManager;
         this.monitor = monitor;
+        this.reconcilerExecutor = ReconcilerExecutor.sequential(monitor);
+    }
+
+    private ReconciliationManager() {
     }
 
     @Override
     public void run() {
-        var paginate = true;
-        var context = new ReconciliationContext();
-        while (paginate) {
-            var request = new Request.Builder().url(specification.getUrl()).get().build();
-            try (var response = httpClient.execute(request)) {
-                if (response.code() != 200) {
-                    monitor.severe("Registry request returned error code: " + response.code());
-                    return;
+        reconcile();
+    }
+
+    /**
+     * Performs a reconciliation cycle. A failed cycle reports {@code UNEXPECTED} if the registry could not be retrieved,
+     * {@code BAD_REQUEST} if it is invalid and {@code CONFLICT} if it was retrieved but a reconciler failed.
+     *
+     * @return a failed result if the registry could not be retrieved or reconciliation did not complete successfully
+     */
+    public ServiceResult<Void> reconcile() {
+        var compiled = compiledPlan();
+        var cycle = new Cycle(compiled, stringTable(compiled.plan().getDefinition()), stateStore == null ? null : new RegistryDiffer(stateStore.load()));
+        var url = firstPage();
+        var lastEntityTag = entityTag;
+        String currentEntityTag = null;
+        var first = true;
+        var consistent = true;
+        while (url != null) {
+            var request = new Request.Builder().url(url).get();
+            if (first && lastEntityTag != null) {
+                request.header(IF_NONE_MATCH_HEADER, lastEntityTag);
+            }
+            try (var response = httpClient.execute(request.build())) {
+                if (first && response.code() == NOT_MODIFIED) {
+                    monitor.debug("Registry not modified. Skipping reconciliation.");
+                    return success();
+                } else if (!first && response.code() == CONFLICT) {
+                    return failure(unexpected(MODIFIED_WHILE_READING));
+                } else if (response.code() != 200) {
+                    return failure(unexpected("Registry request returned error code: " + response.code()));
+                }
+                var pageEntityTag = response.header(ETAG_HEADER);
+                if (first) {
+                    currentEntityTag = pageEntityTag;
+                } else if (currentEntityTag == null || pageEntityTag == null) {
+                    consistent = false;
+                } else if (!currentEntityTag.equals(pageEntityTag)) {
+                    return failure(unexpected(MODIFIED_WHILE_READING));
                 }
                 try (var body = response.body()) {
                     if (body == null) {
-                        monitor.severe("Registry request returned an empty body. Aborting reconciliation.");
-                        return;
+                        return failure(unexpected("Registry request returned an empty body. Aborting reconciliation."));
                     }
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> registryResult = typeManager.readValue(body.string(), Map.class);
-
-                    var validationResult = validateRegistry(registryResult);
+                    var validationResult = streaming ? readStreaming(body.byteStream(), cycle) : readBuffered(body.string(), cycle);
                     if (!validationResult.valid()) {
-                        monitor.severe("Invalid registry data: \n" + join("\n", validationResult.violations()));
-                        return;
+                        return failure(badRequest("Invalid registry data: \n" + join("\n", validationResult.violations())));
                     }
-
-                    var typed = convertToTyped(registryResult);
-
-                    reconcilerRegistry.getReconcilers().forEach(reconciler -> reconciler.reconcile(typed, context));
                 }
+                first = false;
+                url = nextPage(response);
             } catch (IOException e) {
                 monitor.severe("Registry request returned an exception. Aborting reconciliation.", e);
-                return;
+                return unexpected("Registry request returned an exception: " + e.getMessage());
             }
-
-            paginate = false; // TODO support pagination
         }
+        if (cycle.differ != null && consistent) {
+            var removals = cycle.differ.removals();
+            if (!removals.isEmpty()) {
+                cycle.context.setChanges(removals);
+                invokeReconcilers(convertToTyped(new LinkedHashMap<>(), cycle.definition), cycle);
+            }
+        } else if (cycle.differ != null) {
+            monitor.warning("Registry pages are not tagged with a common entity tag. Removed resources are reconciled once the registry is read consistently.");
+        }
+        if (cycle.failed) {
+            monitor.warning("Reconciliation completed with errors");
+            return conflict("Reconciliation completed with errors");
+        }
+        if (cycle.differ != null) {
+            stateStore.save(consistent ? cycle.differ.currentState() : cycle.differ.currentStateRetainingUnread());
+        }
+        entityTag = currentEntityTag;
         monitor.debug("Reconciliation completed");
+        return success();
     }
 
-    private ValidationResult validateRegistry(Map<String, Object> registryResult) {
-        var registryDefinition = specification.getRegistryDefinition();
-        var attributeValidator = new AttributeValidator();
-        var groupValidator = new GroupValidator(attributeValidator);
-        var validator = new RegistryValidator(groupValidator, attributeValidator);
-        return validator.validate(registryResult, registryDefinition);
+    private ServiceResult<Void> failure(ServiceResult<Void> result) {
+        monitor.severe(result.getFailureDetail());
+        return result;
+    }
+
+    private HttpUrl firstPage() {
+        var url = HttpUrl.get(specification.getUrl());
+        return pageSize > 0 ? url.newBuilder().setQueryParameter(LIMIT_PARAM, String.valueOf(pageSize)).build() : url;
+    }
+
+    /**
+     * Returns the URL of the next page as advertised by the {@code Link} header or null if the last page was reached.
+     */
+    @Nullable
+    private HttpUrl nextPage(Response response) {
+        for (var header : response.headers(LINK_HEADER)) {
+            var matcher = NEXT_LINK.matcher(header);
+            if (matcher.find()) {
+                return response.request().url().resolve(matcher.group(1));
+            }
+        }
+        return null;
+    }
+
+    private ValidationResult readBuffered(String content, Cycle cycle) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> registryResult = typeManager.readValue(content, Map.class);
+
+        var validationResult = validationExecutor == null ? cycle.plan.validate(registryResult) : cycle.plan.validate(registryResult, validationExecutor);
+        if (validationResult.valid()) {
+            dispatch(registryResult, cycle);
+        }
+        return validationResult;
+    }
+
+    private ValidationResult readStreaming(InputStream stream, Cycle cycle) throws IOException {
+        var reader = new StreamingRegistryReader(typeManager.getMapper(), cycle.plan);
+        return reader.read(stream, registryResult -> dispatch(registryResult, cycle));
+    }
+
+    /**
+     * Returns the validation plan for the current registry definition, compiling it if the definition has changed.
+     */
+    private CompiledPlan compiledPlan() {
+        var definition = specification.getRegistryDefinition();
+        var current = compiledPlan;
+        if (current == null || current.plan().getDefinition() != definition) {
+            current = new CompiledPlan(ValidationPlan.compile(definition, violationLimit), compactStorage ? CompactStorage.compile(definition) : null);
+            compiledPlan = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns a new string table seeded with the names of the definition, or null if values are not deduplicated.
+     */
+    @Nullable
+    private StringTable stringTable(RegistryDefinition definition) {
+        return stringTableSize > 0 ? StringTable.forDefinition(definition, stringTableSize, StringTable.DEFAULT_MAX_LENGTH) : null;
+    }
+
+    private void dispatch(Map<String, Object> registryResult, Cycle cycle) {
+        if (cycle.strings != null) {
+            cycle.strings.canonicalizeValues(registryResult);
+        }
+        if (cycle.differ != null) {
+            var changes = cycle.differ.diff(registryResult, cycle.definition);
+            if (changes.isEmpty()) {
+                return;
+            }
+            cycle.context.setChanges(changes);
+        }
+        var data = cycle.storage == null ? registryResult : cycle.storage.compact(registryResult);
+        invokeReconcilers(convertToTyped(data, cycle.definition), cycle);
+    }
+
+    private void invokeReconcilers(TypedRegistry typed, Cycle cycle) {
+        var runs = reconcilerExecutor.execute(reconcilerRegistry.getReconcilers(), reconciler -> reconciler.reconcile(typed, cycle.context));
+        for (var run : runs) {
+            if (run.result().failed()) {
+                monitor.severe("Reconciler for resource type %s failed: %s".formatted(run.resourceType(), run.result().getFailureDetail()));
+                cycle.failed = true;
+            }
+        }
     }
 
-    private TypedRegistry convertToTyped(Map<String, Object> registryResult) {
+    private TypedRegistry convertToTyped(Map<String, Object> registryResult, RegistryDefinition registryDefinition) {
         return TypedRegistry.Builder.newInstance()
                 .untyped(registryResult)
-                .definition(specification.getRegistryDefinition())
+                .definition(registryDefinition)
                 .typeFactory(typeFactory)
                 .build();
 
     }
+
+    /**
+     * The state of a reconciliation cycle.
+     */
+    private static class Cycle {
+        private final ReconciliationContext context = new ReconciliationContext();
+        private final ValidationPlan plan;
+        private final RegistryDefinition definition;
+        private final CompactStorage storage;
+        private final StringTable strings;
+        private final RegistryDiffer differ;
+        private boolean failed;
+
+        Cycle(CompiledPlan compiled, @Nullable StringTable strings, @Nullable RegistryDiffer differ) {
+            this.plan = compiled.plan();
+            this.definition = plan.getDefinition();
+            this.storage = compiled.storage();
+            this.strings = strings;
+            this.differ = differ;
+        }
+    }
+
+    /**
+     * A validation plan and the compact storage layouts if enabled, compiled from the same definition.
+     */
+    private record CompiledPlan(ValidationPlan plan, @Nullable CompactStorage storage) {
+    }
+
+    public static class Builder {
+        private final ReconciliationManager manager;
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder reconcilerRegistry(ResourceReconcilerRegistry reconcilerRegistry) {
+            manager.reconcilerRegistry = reconcilerRegistry;
+            return this;
+        }
+
+        public Builder specification(RegistrySpecification specification) {
+            manager.specification = specification;
+            return this;
+        }
+
+        public Builder typeFactory(TypeFactory typeFactory) {
+            manager.typeFactory = typeFactory;
+            return this;
+        }
+
+        public Builder httpClient(EdcHttpClient httpClient) {
+            manager.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder typeManager(TypeManager typeManager) {
+            manager.typeManager = typeManager;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            manager.monitor = monitor;
+            return this;
+        }
+
+        /**
+         * If true, the registry is read as a token stream and resources are reconciled as they are parsed.
+         */
+        public Builder streaming(boolean streaming) {
+            manager.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * If true, registry entries are stored in compact maps laid out according to their type definitions.
+         */
+        public Builder compactStorage(boolean compactStorage) {
+            manager.compactStorage = compactStorage;
+            return this;
+        }
+
+        /**
+         * The maximum number of distinct strings used to deduplicate registry values per cycle. If not positive, values
+         * are not deduplicated.
+         */
+        public Builder stringTableSize(int stringTableSize) {
+            manager.stringTableSize = stringTableSize;
+            return this;
+        }
+
+        public Builder violationLimit(ViolationLimit violationLimit) {
+            manager.violationLimit = violationLimit;
+            return this;
+        }
+
+        /**
+         * The executor used to validate registry data in parallel. Not used if the registry is read as a token stream.
+         */
+        public Builder validationExecutor(Executor validationExecutor) {
+            manager.validationExecutor = validationExecutor;
+            return this;
+        }
+
+        /**
+         * The maximum number of resources per type to request per page. If not positive, the complete registry is
+         * requested at once.
+         */
+        public Builder pageSize(int pageSize) {
+            manager.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Enables incremental reconciliation using the store to track the applied registry state.
+         */
+        public Builder stateStore(ReconciliationStateStore stateStore) {
+            manager.stateStore = stateStore;
+            return this;
+        }
+
+        /**
+         * The executor used to invoke reconcilers. If not set, reconcilers are invoked sequentially.
+         */
+        public Builder reconcilerExecutor(ReconcilerExecutor reconcilerExecutor) {
+            manager.reconcilerExecutor = reconcilerExecutor;
+            return this;
+        }
+
+        public ReconciliationManager build() {
+            requireNonNull(manager.reconcilerRegistry, "reconcilerRegistry");
+            requireNonNull(manager.specification, "specification");
+            requireNonNull(manager.typeFactory, "typeFactory");
+            requireNonNull(manager.httpClient, "httpClient");
+            requireNonNull(manager.typeManager, "typeManager");
+            requireNonNull(manager.monitor, "monitor");
+            requireNonNull(manager.violationLimit, "violationLimit");
+            if (manager.reconcilerExecutor == null) {
+                manager.reconcilerExecutor = ReconcilerExecutor.sequential(manager.monitor);
+            }
+            return manager;
+        }
+
+        private Builder() {
+            manager = new ReconciliationManager();
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.manager;
+
+import org.eclipse.edc.registry.spi.reconciler.ResourceChanges;
+import org.eclipse.edc.registry.spi.reconciler.ResourceState;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.eclipse.edc.registry.xregistry.model.typed.VersionOrder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.EPOCH;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.VERSIONS;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.XID;
+
+/**
+ * Calculates the resource changes between the last applied registry state and the registry data read during a
+ * reconciliation cycle.
+ * <p>
+ * Registry data may be supplied in multiple parts, for example, pages or groups. Added and changed resources are reported
+ * per part, while removed resources can only be determined once all parts have been read. Resources are compared by
+ * their xid and the id and epoch of their latest version. The differ operates on untyped data and is not thread-safe.
+ */
+class RegistryDiffer {
+    private final Map<String, ResourceState> lastApplied;
+    private final Map<String, ResourceState> current = new HashMap<>();
+
+    RegistryDiffer(Map<String, ResourceState> lastApplied) {
+        this.lastApplied = lastApplied;
+    }
+
+    /**
+     * Returns the added and changed resources contained in the registry data.
+     */
+    @SuppressWarnings("unchecked")
+    ResourceChanges diff(Map<String, Object> registry, RegistryDefinition definition) {
+        var added = new HashMap<String, ResourceState>();
+        var changed = new HashMap<String, ResourceState>();
+        for (var groupDefinition : definition.getGroups().values()) {
+            if (registry.get(groupDefinition.getPlural()) instanceof Map<?, ?> groups) {
+                for (var group : groups.values()) {
+                    if (group instanceof Map<?, ?> untypedGroup) {
+                        diffGroup((Map<String, Object>) untypedGroup, groupDefinition, added, changed);
+                    }
+                }
+            }
+        }
+        return new ResourceChanges(added, changed, emptyList());
+    }
+
+    /**
+     * Returns the resources of the last applied state that were not contained in any of the diffed registry data.
+     */
+    ResourceChanges removals() {
+        var removed = lastApplied.values().stream()
+                .filter(state -> !current.containsKey(state.xid()))
+                .toList();
+        return ResourceChanges.removals(removed);
+    }
+
+    /**
+     * Returns the state of all diffed resources.
+     */
+    Map<String, ResourceState> currentState() {
+        return unmodifiableMap(current);
+    }
+
+    /**
+     * Returns the state of all diffed resources and the last applied state of resources that were not diffed. Used when
+     * the diffed registry data is not known to be complete, so that removals are determined by a later cycle.
+     */
+    Map<String, ResourceState> currentStateRetainingUnread() {
+        var state = new HashMap<>(lastApplied);
+        state.putAll(current);
+        return unmodifiableMap(state);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void diffGroup(Map<String, Object> group,
+                           GroupDefinition groupDefinition,
+                           Map<String, ResourceState> added,
+                           Map<String, ResourceState> changed) {
+        for (var resourceDefinition : groupDefinition.getResources().values()) {
+            if (group.get(resourceDefinition.getPlural()) instanceof Map<?, ?> resources) {
+                for (var resource : resources.values()) {
+                    if (resource instanceof Map<?, ?> untypedResource) {
+                        var state = createState((Map<String, Object>) untypedResource, resourceDefinition);
+                        current.put(state.xid(), state);
+                        var previous = lastApplied.get(state.xid());
+                        if (previous == null) {
+                            added.put(state.xid(), state);
+                        } else if (!previous.equals(state)) {
+                            changed.put(state.xid(), state);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResourceState createState(Map<String, Object> resource, ResourceDefinition definition) {
+        var xid = (String) resource.get(XID);
+        String versionId = null;
+        var epoch = 0;
+        if (resource.get(VERSIONS) instanceof Map<?, ?> versions && !versions.isEmpty()) {
+            // track the version selected by TypedResource#getDefaultVersion
+            versionId = VersionOrder.defaultVersion((Map<String, Object>) versions);
+            if (versions.get(versionId) instanceof Map<?, ?> version && version.get(EPOCH) instanceof Number number) {
+                epoch = number.intValue();
+            }
+        }
+        var id = (String) resource.get(definition.getIdKey());
+        return new ResourceState(xid, definition.getSingular(), id, versionId, epoch);
+    }
+}
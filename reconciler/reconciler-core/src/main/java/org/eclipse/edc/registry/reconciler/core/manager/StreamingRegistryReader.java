@@ -0,0 +1,318 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.manager;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registry.xregistry.library.validation.ValidationPlan;
+import org.eclipse.edc.registry.xregistry.library.validation.ValidationResult;
+import org.eclipse.edc.registry.xregistry.model.definition.AbstractTypeDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.AttributeDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.invalidType;
+import static org.eclipse.edc.registry.xregistry.library.validation.ValidationResult.success;
+
+/**
+ * Reads a registry document from a JSON token stream and dispatches resources in batches as they are parsed.
+ * <p>
+ * Each resource is validated as soon as it is parsed and added to the batch of its group. A batch is dispatched in a
+ * registry document containing the registry attributes, the attributes of its group and the batched resources once it
+ * is full or the group ends, so the heap required to ingest a registry is bounded by the batch size instead of the
+ * complete document. A group without resources is dispatched on its own.
+ * <p>
+ * Nothing is dispatched before the enclosing registry and group attributes have been validated. Attributes are
+ * validated as soon as all required attributes have been read, which is the case when they precede the collections as
+ * the registry server writes them. Otherwise, parsed resources are held back until the required attributes have been
+ * read or the enclosing object ends. Optional attributes following the collections are validated when they are read.
+ * <p>
+ * Reading stops at the first violation. Batches dispatched before the violation was read are not revoked; callers must
+ * treat them as applied on a best-effort basis.
+ */
+public class StreamingRegistryReader {
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final ObjectMapper mapper;
+    private final ValidationPlan plan;
+    private final int batchSize;
+    private final Set<String> requiredAttributes;
+    private final Map<String, Set<String>> requiredGroupAttributes = new HashMap<>();
+
+    public StreamingRegistryReader(ObjectMapper mapper, ValidationPlan plan) {
+        this(mapper, plan, DEFAULT_BATCH_SIZE);
+    }
+
+    public StreamingRegistryReader(ObjectMapper mapper, ValidationPlan plan, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.mapper = requireNonNull(mapper, "mapper");
+        this.plan = requireNonNull(plan, "plan");
+        this.batchSize = batchSize;
+        var definition = plan.getDefinition();
+        requiredAttributes = requiredAttributes(definition);
+        definition.getGroups().values().forEach(group -> requiredGroupAttributes.put(group.getPlural(), requiredAttributes(group)));
+    }
+
+    /**
+     * Reads the registry from the stream.
+     *
+     * @param stream   the registry document
+     * @param consumer receives a registry document per batch of resources, or per group without resources
+     * @return the validation result. Reading stops at the first violation.
+     */
+    public ValidationResult read(InputStream stream, Consumer<Map<String, Object>> consumer) throws IOException {
+        var definition = plan.getDefinition();
+        try (var parser = mapper.getFactory().createParser(stream)) {
+            if (parser.nextToken() != START_OBJECT) {
+                return invalidType(definition.getContext());
+            }
+            var registry = new RegistryState(consumer);
+            while (parser.nextToken() == FIELD_NAME) {
+                var name = parser.currentName();
+                var token = parser.nextToken();
+                var groupDefinition = definition.getGroups().get(name);
+                ValidationResult result;
+                if (groupDefinition == null) {
+                    registry.attributes.put(name, mapper.readValue(parser, Object.class));
+                    result = registry.validated ? plan.validateAttributes(registry.attributes) : success();
+                } else if (token != START_OBJECT) {
+                    result = invalidType(definition.getContext() + "." + name);
+                } else {
+                    result = readGroups(parser, groupDefinition, registry);
+                }
+                if (!result.valid()) {
+                    return result;
+                }
+            }
+            return registry.validated ? success() : registry.validate();
+        }
+    }
+
+    private ValidationResult readGroups(JsonParser parser, GroupDefinition groupDefinition, RegistryState registry) throws IOException {
+        while (parser.nextToken() == FIELD_NAME) {
+            var groupId = parser.currentName();
+            if (parser.nextToken() != START_OBJECT) {
+                return invalidType("%s[%s]".formatted(groupDefinition.getContext(), groupId));
+            }
+            var result = readGroup(parser, groupDefinition, groupId, registry);
+            if (!result.valid()) {
+                return result;
+            }
+        }
+        return success();
+    }
+
+    private ValidationResult readGroup(JsonParser parser, GroupDefinition groupDefinition, String groupId, RegistryState registry) throws IOException {
+        var group = new GroupState(groupDefinition.getPlural(), groupId, registry);
+        while (parser.nextToken() == FIELD_NAME) {
+            var name = parser.currentName();
+            var token = parser.nextToken();
+            var resourceDefinition = groupDefinition.getResources().get(name);
+            ValidationResult result;
+            if (resourceDefinition == null) {
+                group.attributes.put(name, mapper.readValue(parser, Object.class));
+                result = group.validated ? plan.validateGroupAttributes(group.plural, group.attributes) : success();
+            } else if (token != START_OBJECT) {
+                result = invalidType("%s[%s].%s".formatted(groupDefinition.getContext(), groupId, name));
+            } else {
+                result = readResources(parser, name, group);
+            }
+            if (!result.valid()) {
+                return result;
+            }
+        }
+        return group.complete();
+    }
+
+    private ValidationResult readResources(JsonParser parser, String resourcePlural, GroupState group) throws IOException {
+        while (parser.nextToken() == FIELD_NAME) {
+            var resourceId = parser.currentName();
+            parser.nextToken();
+            var resource = mapper.readValue(parser, Object.class);
+            var result = plan.validateResource(group.plural, group.id, resourcePlural, resourceId, resource);
+            if (result.valid()) {
+                result = group.dispatch(resourcePlural, resourceId, resource);
+            }
+            if (!result.valid()) {
+                return result;
+            }
+        }
+        return success();
+    }
+
+    private static Set<String> requiredAttributes(AbstractTypeDefinition definition) {
+        return definition.getAttributes().values().stream()
+                .filter(AttributeDefinition::serverRequired)
+                .map(AttributeDefinition::getName)
+                .collect(toUnmodifiableSet());
+    }
+
+    /**
+     * The registry attributes read so far and the groups held back until the attributes are validated.
+     */
+    private class RegistryState {
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private final List<Map.Entry<String, Map<String, Object>>> pending = new ArrayList<>();
+        private final Consumer<Map<String, Object>> consumer;
+        private boolean validated;
+
+        RegistryState(Consumer<Map<String, Object>> consumer) {
+            this.consumer = consumer;
+        }
+
+        /**
+         * Dispatches the group container, or holds it back if the registry attributes have not been validated yet.
+         */
+        ValidationResult dispatch(String plural, Map<String, Object> groupContainer) {
+            if (!validated && attributes.keySet().containsAll(requiredAttributes)) {
+                var result = validate();
+                if (!result.valid()) {
+                    return result;
+                }
+            }
+            if (validated) {
+                accept(plural, groupContainer);
+            } else {
+                pending.add(Map.entry(plural, groupContainer));
+            }
+            return success();
+        }
+
+        /**
+         * Validates the registry attributes and dispatches the groups held back.
+         */
+        ValidationResult validate() {
+            var result = plan.validateAttributes(attributes);
+            if (result.valid()) {
+                validated = true;
+                pending.forEach(entry -> accept(entry.getKey(), entry.getValue()));
+                pending.clear();
+            }
+            return result;
+        }
+
+        private void accept(String plural, Map<String, Object> groupContainer) {
+            var registry = new LinkedHashMap<>(attributes);
+            registry.put(plural, groupContainer);
+            consumer.accept(registry);
+        }
+    }
+
+    /**
+     * The attributes of a group read so far, the resources held back until the attributes are validated and the batch of
+     * validated resources not dispatched yet.
+     */
+    private class GroupState {
+        private final String plural;
+        private final String id;
+        private final RegistryState registry;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private final List<PendingResource> pending = new ArrayList<>();
+        private Map<String, Map<String, Object>> batch = new LinkedHashMap<>();
+        private int batched;
+        private boolean validated;
+        private boolean dispatched;
+
+        GroupState(String plural, String id, RegistryState registry) {
+            this.plural = plural;
+            this.id = id;
+            this.registry = registry;
+        }
+
+        /**
+         * Adds the resource to the batch, or holds it back if the group attributes have not been validated yet.
+         */
+        ValidationResult dispatch(String resourcePlural, String resourceId, Object resource) {
+            if (!validated && attributes.keySet().containsAll(requiredGroupAttributes.get(plural))) {
+                var result = validate();
+                if (!result.valid()) {
+                    return result;
+                }
+            }
+            if (validated) {
+                return accept(resourcePlural, resourceId, resource);
+            }
+            pending.add(new PendingResource(resourcePlural, resourceId, resource));
+            return success();
+        }
+
+        /**
+         * Completes the group once its object has been read by dispatching the remaining batch. The group is dispatched on
+         * its own if it has no resources.
+         */
+        ValidationResult complete() {
+            if (!validated) {
+                var result = validate();
+                if (!result.valid()) {
+                    return result;
+                }
+            }
+            return batched > 0 || !dispatched ? flush() : success();
+        }
+
+        private ValidationResult validate() {
+            var result = plan.validateGroupAttributes(plural, attributes);
+            if (!result.valid()) {
+                return result;
+            }
+            validated = true;
+            for (var entry : pending) {
+                result = accept(entry.plural(), entry.id(), entry.resource());
+                if (!result.valid()) {
+                    return result;
+                }
+            }
+            pending.clear();
+            return success();
+        }
+
+        private ValidationResult accept(String resourcePlural, String resourceId, Object resource) {
+            batch.computeIfAbsent(resourcePlural, k -> new LinkedHashMap<>()).put(resourceId, resource);
+            return ++batched < batchSize ? success() : flush();
+        }
+
+        private ValidationResult flush() {
+            dispatched = true;
+            var group = new LinkedHashMap<String, Object>(attributes);
+            group.putAll(batch);
+            batch = new LinkedHashMap<>();
+            batched = 0;
+            var groupContainer = new HashMap<String, Object>();
+            groupContainer.put(id, group);
+            return registry.dispatch(plural, groupContainer);
+        }
+    }
+
+    /**
+     * A validated resource held back until the attributes of its group are validated.
+     */
+    private record PendingResource(String plural, String id, Object resource) {
+    }
+}
@@ -14,42 +14,98 @@
 
 package org.eclipse.edc.registry.reconciler.core.registry;
 
-import org.eclipse.edc.boot.util.TopologicalSort;
 import org.eclipse.edc.registry.spi.reconciler.ResourceReconciler;
 import org.eclipse.edc.registry.spi.reconciler.ResourceReconcilerRegistry;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.lang.String.join;
+import static java.util.Collections.emptyList;
 
 /**
  * Default implementation.
+ * <p>
+ * The execution order is computed when a reconciler is registered, so retrieving reconcilers does not incur any
+ * sorting cost. Dependencies on resource types without a registered reconciler are ignored.
  */
 public class ResourceReconcilerRegistryImpl implements ResourceReconcilerRegistry {
-    private Map<String, ResourceReconciler> reconcilers = new HashMap<>();
+    private final Map<String, ResourceReconciler> reconcilers = new LinkedHashMap<>();
+    private volatile ExecutionOrder order = new ExecutionOrder(emptyList(), emptyList());
 
     @Override
-    public void registerReconciler(ResourceReconciler reconciler) {
-        reconcilers.put(reconciler.resourceType(), reconciler);
+    public synchronized void registerReconciler(ResourceReconciler reconciler) {
+        var previous = reconcilers.put(reconciler.resourceType(), reconciler);
+        try {
+            order = computeOrder();
+        } catch (IllegalArgumentException e) {
+            if (previous == null) {
+                reconcilers.remove(reconciler.resourceType());
+            } else {
+                reconcilers.put(reconciler.resourceType(), previous);
+            }
+            throw e;
+        }
     }
 
     @Override
     public List<ResourceReconciler> getReconcilers() {
-        var sort = new TopologicalSort<ResourceReconciler>();
-
-        reconcilers.values().forEach(reconciler -> reconciler.dependentResources()
-                .forEach(resourceType -> {
-                    var dependency = reconcilers.get(resourceType);
-                    if (dependency != null) {
-                        sort.addDependency(reconciler, dependency);
-                    }
-                }));
-
-        var list = new ArrayList<>(reconcilers.values());
-        sort.sort(list);
-        return list;
+        return order.reconcilers();
+    }
+
+    @Override
+    public List<List<ResourceReconciler>> getExecutionLevels() {
+        return order.levels();
+    }
+
+    private ExecutionOrder computeOrder() {
+        var levels = new ArrayList<List<ResourceReconciler>>();
+        var completed = new HashSet<String>();
+        var remaining = new LinkedHashMap<>(reconcilers);
+        while (!remaining.isEmpty()) {
+            var level = remaining.values().stream()
+                    .filter(reconciler -> dependencies(reconciler).allMatch(completed::contains))
+                    .toList();
+            if (level.isEmpty()) {
+                throw new IllegalArgumentException("Cyclic reconciler dependencies: " + join(" -> ", findCycle(remaining)));
+            }
+            level.forEach(reconciler -> {
+                completed.add(reconciler.resourceType());
+                remaining.remove(reconciler.resourceType());
+            });
+            levels.add(level);
+        }
+        var sorted = levels.stream().flatMap(List::stream).toList();
+        return new ExecutionOrder(sorted, List.copyOf(levels));
     }
 
+    /**
+     * Returns a dependency cycle. Each of the remaining reconcilers has at least one remaining dependency since it would
+     * otherwise have been assigned a level, so following dependencies eventually revisits a reconciler.
+     */
+    private List<String> findCycle(Map<String, ResourceReconciler> remaining) {
+        var path = new ArrayList<String>();
+        var current = remaining.values().iterator().next().resourceType();
+        while (!path.contains(current)) {
+            path.add(current);
+            current = dependencies(remaining.get(current))
+                    .filter(remaining::containsKey)
+                    .findFirst()
+                    .orElseThrow();
+        }
+        var cycle = new ArrayList<>(path.subList(path.indexOf(current), path.size()));
+        cycle.add(current);
+        return cycle;
+    }
 
+    private Stream<String> dependencies(ResourceReconciler reconciler) {
+        return reconciler.dependentResources().stream().filter(reconcilers::containsKey);
+    }
+
+    private record ExecutionOrder(List<ResourceReconciler> reconcilers, List<List<ResourceReconciler>> levels) {
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.scheduler;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceFailure;
+import org.eclipse.edc.spi.result.ServiceResult;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Schedules reconciliation cycles.
+ * <p>
+ * Each cycle is scheduled after the previous one has completed, so the delay between cycles is measured from the end of
+ * a cycle. A random jitter is added to each delay to spread the load of a fleet of reconcilers on the registry. After a
+ * cycle failed to retrieve the registry, the delay is doubled for each consecutive failure up to the configured maximum.
+ * A cycle failing with {@link ServiceFailure.Reason#CONFLICT} retrieved the registry but could not apply all of it; it
+ * does not delay the next cycle. A cycle that throws is treated as a retrieval failure and the next cycle is always
+ * scheduled. Cycles never overlap: a cycle triggered while another one is in progress is skipped.
+ */
+public class ReconciliationScheduler {
+    private final Supplier<ServiceResult<Void>> task;
+    private final ScheduledExecutorService executor;
+    private final SchedulerConfig config;
+    private final LongUnaryOperator jitter;
+    private final Monitor monitor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean active;
+    private volatile ScheduledFuture<?> next;
+    private volatile int failures;
+
+    /**
+     * Constructor.
+     *
+     * @param task     the reconciliation cycle
+     * @param executor the executor to schedule cycles on
+     * @param config   the scheduling configuration
+     * @param jitter   returns a random value between zero (inclusive) and the given bound in milliseconds (exclusive)
+     * @param monitor  the monitor
+     */
+    public ReconciliationScheduler(Supplier<ServiceResult<Void>> task,
+                                   ScheduledExecutorService executor,
+                                   SchedulerConfig config,
+                                   LongUnaryOperator jitter,
+                                   Monitor monitor) {
+        this.task = requireNonNull(task, "task");
+        this.executor = requireNonNull(executor, "executor");
+        this.config = requireNonNull(config, "config");
+        this.jitter = requireNonNull(jitter, "jitter");
+        this.monitor = requireNonNull(monitor, "monitor");
+    }
+
+    /**
+     * Schedules the first cycle after the initial delay.
+     */
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+        active = true;
+        schedule(config.initialDelay());
+    }
+
+    /**
+     * Cancels the next scheduled cycle. A cycle in progress is allowed to complete.
+     */
+    public synchronized void stop() {
+        active = false;
+        var future = next;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Runs a cycle unless one is already in progress.
+     *
+     * @return true if the cycle was run
+     */
+    public boolean runCycle() {
+        if (!running.compareAndSet(false, true)) {
+            monitor.debug("Reconciliation in progress. Skipping cycle.");
+            return false;
+        }
+        try {
+            var result = execute();
+            failures = result.succeeded() || result.reason() == ServiceFailure.Reason.CONFLICT ? 0 : failures + 1;
+        } finally {
+            running.set(false);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the delay before the next cycle, excluding jitter.
+     */
+    Duration nextDelay() {
+        if (failures == 0) {
+            return config.period();
+        }
+        var multiplier = 1L << Math.min(failures, 30);
+        var maxMultiplier = config.maxBackoff().toMillis() / Math.max(config.period().toMillis(), 1);
+        return multiplier > maxMultiplier ? config.maxBackoff() : config.period().multipliedBy(multiplier);
+    }
+
+    private ServiceResult<Void> execute() {
+        try {
+            return task.get();
+        } catch (Throwable e) {
+            monitor.severe("Reconciliation failed", e);
+            return ServiceResult.unexpected("Reconciliation failed: " + e.getMessage());
+        }
+    }
+
+    private void cycle() {
+        try {
+            runCycle();
+        } finally {
+            synchronized (this) {
+                if (active) {
+                    var delay = nextDelay();
+                    if (failures > 0) {
+                        monitor.warning("Reconciliation failed %d time(s). Retrying in %s".formatted(failures, delay));
+                    }
+                    schedule(delay);
+                }
+            }
+        }
+    }
+
+    private void schedule(Duration delay) {
+        var bound = config.jitter().toMillis();
+        var millis = delay.toMillis() + (bound > 0 ? jitter.applyAsLong(bound) : 0);
+        next = executor.schedule(this::cycle, millis, MILLISECONDS);
+    }
+}
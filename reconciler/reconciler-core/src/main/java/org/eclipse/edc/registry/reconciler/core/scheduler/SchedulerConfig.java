@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.scheduler;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Scheduling configuration for reconciliation cycles.
+ *
+ * @param period       the delay between the end of a successful cycle and the start of the next one
+ * @param initialDelay the delay before the first cycle
+ * @param jitter       the upper bound of a random delay added to each scheduled cycle
+ * @param maxBackoff   the upper bound of the delay after consecutive failed cycles
+ */
+public record SchedulerConfig(Duration period, Duration initialDelay, Duration jitter, Duration maxBackoff) {
+
+    public SchedulerConfig {
+        requireNonNull(period, "period");
+        requireNonNull(initialDelay, "initialDelay");
+        requireNonNull(jitter, "jitter");
+        requireNonNull(maxBackoff, "maxBackoff");
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        if (initialDelay.isNegative() || jitter.isNegative()) {
+            throw new IllegalArgumentException("Initial delay and jitter must not be negative");
+        }
+        if (maxBackoff.compareTo(period) < 0) {
+            throw new IllegalArgumentException("Maximum backoff must not be less than the period: " + maxBackoff);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.state;
+
+import org.eclipse.edc.registry.spi.reconciler.ReconciliationStateStore;
+import org.eclipse.edc.registry.spi.reconciler.ResourceState;
+
+import java.util.Map;
+
+/**
+ * Default in-memory implementation. The applied state is lost on restart, resulting in a full reconciliation.
+ */
+public class InMemoryReconciliationStateStore implements ReconciliationStateStore {
+    private volatile Map<String, ResourceState> state = Map.of();
+
+    @Override
+    public Map<String, ResourceState> load() {
+        return state;
+    }
+
+    @Override
+    public void save(Map<String, ResourceState> state) {
+        this.state = Map.copyOf(state);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.manager;
+
+import org.eclipse.edc.registry.spi.reconciler.ResourceReconciler;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReconcilerExecutorTest {
+    private ExecutorService workers;
+    private ReconcilerExecutor executor;
+
+    @Test
+    void verify_independentReconcilersRunInParallel() {
+        var barrier = new CyclicBarrier(2);
+        var reconcilers = List.of(reconciler("foo", emptyList()), reconciler("bar", emptyList()));
+
+        var runs = executor.execute(reconcilers, reconciler -> {
+            try {
+                // both reconcilers must be active at the same time to pass the barrier
+                barrier.await(5, SECONDS);
+                return ServiceResult.success();
+            } catch (Exception e) {
+                return ServiceResult.unexpected(e.toString());
+            }
+        });
+
+        assertThat(runs).extracting(ReconcilerRun::resourceType).containsExactly("foo", "bar");
+        assertThat(runs).allMatch(run -> run.result().succeeded());
+    }
+
+    @Test
+    void verify_dependenciesCompleteFirst() {
+        var completed = new CopyOnWriteArrayList<String>();
+        var reconcilers = List.of(
+                reconciler("bar", emptyList()),
+                reconciler("baz", emptyList()),
+                reconciler("foo", List.of("bar", "baz")),
+                reconciler("qux", List.of("foo")));
+
+        executor.execute(reconcilers, reconciler -> {
+            if (reconciler.resourceType().equals("foo")) {
+                assertThat(completed).contains("bar", "baz");
+            } else if (reconciler.resourceType().equals("qux")) {
+                assertThat(completed).contains("foo");
+            }
+            completed.add(reconciler.resourceType());
+            return ServiceResult.success();
+        });
+
+        assertThat(completed).hasSize(4).endsWith("qux");
+    }
+
+    @Test
+    void verify_failureAndException_reported() {
+        var reconcilers = List.of(reconciler("foo", emptyList()), reconciler("bar", emptyList()));
+
+        var runs = executor.execute(reconcilers, reconciler -> {
+            if (reconciler.resourceType().equals("foo")) {
+                throw new IllegalStateException("error");
+            }
+            return ServiceResult.unexpected("error");
+        });
+
+        assertThat(runs).allMatch(run -> run.result().failed());
+        assertThat(runs).noneMatch(run -> run.duration().isNegative());
+    }
+
+    @Test
+    void verify_dependentsOfFailedReconciler_skipped() {
+        var invoked = new CopyOnWriteArrayList<String>();
+        var reconcilers = List.of(
+                reconciler("foo", emptyList()),
+                reconciler("baz", emptyList()),
+                reconciler("bar", List.of("foo")),
+                reconciler("qux", List.of("bar")));
+
+        var runs = executor.execute(reconcilers, reconciler -> {
+            invoked.add(reconciler.resourceType());
+            return reconciler.resourceType().equals("foo") ? ServiceResult.unexpected("error") : ServiceResult.success();
+        });
+
+        assertThat(invoked).containsExactlyInAnyOrder("foo", "baz");
+        assertThat(runs).extracting(run -> run.result().succeeded()).containsExactly(false, true, false, false);
+        assertThat(runs.get(2).result().getFailureDetail()).contains("foo");
+        assertThat(runs.get(3).result().getFailureDetail()).contains("bar");
+    }
+
+    @Test
+    void verify_unorderedReconcilers_fails() {
+        var reconcilers = List.of(reconciler("foo", List.of("bar")), reconciler("bar", emptyList()));
+
+        assertThatThrownBy(() -> executor.execute(reconcilers, reconciler -> ServiceResult.success()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verify_sequential() {
+        var threads = new CopyOnWriteArrayList<Thread>();
+        var reconcilers = List.of(reconciler("foo", emptyList()), reconciler("bar", emptyList()));
+
+        ReconcilerExecutor.sequential(mock(Monitor.class)).execute(reconcilers, reconciler -> {
+            threads.add(Thread.currentThread());
+            return ServiceResult.success();
+        });
+
+        assertThat(threads).containsOnly(Thread.currentThread());
+    }
+
+    @BeforeEach
+    void setUp() {
+        workers = Executors.newFixedThreadPool(4);
+        executor = new ReconcilerExecutor(workers, mock(Monitor.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    private ResourceReconciler reconciler(String type, List<String> dependencies) {
+        var reconciler = mock(ResourceReconciler.class);
+        when(reconciler.resourceType()).thenReturn(type);
+        when(reconciler.dependentResources()).thenReturn(dependencies);
+        return reconciler;
+    }
+}
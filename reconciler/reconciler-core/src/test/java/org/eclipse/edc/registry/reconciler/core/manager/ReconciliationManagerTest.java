@@ -20,26 +20,90 @@ import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.registry.reconciler.core.state.InMemoryReconciliationStateStore;
+import org.eclipse.edc.registry.spi.reconciler.ReconciliationContext;
+import org.eclipse.edc.registry.spi.reconciler.ResourceReconciler;
 import org.eclipse.edc.registry.spi.reconciler.ResourceReconcilerRegistry;
+import org.eclipse.edc.registry.spi.reconciler.ResourceState;
+import org.eclipse.edc.registry.xregistry.library.validation.RegistryTypeValidator.ViolationLimit;
+import org.eclipse.edc.registry.xregistry.model.compact.CompactMap;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
 import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
 import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static okhttp3.Protocol.HTTP_1_1;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.registry.reconciler.core.manager.Definitions.BASE_REGISTRY;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ReconciliationManagerTest {
+    private static final String FOO_XID = "/foogroups/group1/foos/foo1";
+    private static final String FOO_REGISTRY = """
+            {
+              "specversion": "0.5",
+              "registryid": "sample",
+              "self": "https://localhost:8080/xregistry",
+              "xid": "/xregistry",
+              "epoch": 1,
+              "createdat": "2024-12-19T06:00:00Z",
+              "modifiedat": "2024-12-19T06:00:00Z",
+              "foogroupsurl": "#/foogroups",
+              "foogroupscount": 1,
+              "foogroups": {
+                "group1": {
+                  "foogroupid": "group1",
+                  "self": "#/foogroups/group1",
+                  "xid": "/foogroups/group1",
+                  "epoch": 1,
+                  "createdat": "2024-12-19T06:00:00Z",
+                  "modifiedat": "2024-12-19T06:00:00Z",
+                  "foosurl": "#/foogroups/group1/foos",
+                  "fooscount": 1,
+                  "foos": {
+                    "foo1": {
+                      "fooid": "foo1",
+                      "self": "#/foogroups/group1/foos/foo1",
+                      "xid": "/foogroups/group1/foos/foo1",
+                      "metaurl": "#/foogroups/group1/foos/foo1/meta",
+                      "versionsurl": "#/foogroups/group1/foos/foo1/versions",
+                      "versionscount": 1,
+                      "versions": {
+                        "1.0": {
+                          "fooid": "foo1",
+                          "versionid": "1.0",
+                          "self": "#/foogroups/group1/foos/foo1/versions/1.0",
+                          "xid": "/foogroups/group1/foos/foo1/versions/1.0",
+                          "epoch": 1,
+                          "isdefault": true,
+                          "createdat": "2024-12-19T06:00:00Z",
+                          "modifiedat": "2024-12-19T06:00:00Z"
+                        }
+                      }
+                    }
+                  }
+                }
+              }
+            }""";
+
     private ResourceReconcilerRegistry registry;
     private RegistrySpecification specification;
     private TypeFactory typeFactory;
@@ -62,6 +126,271 @@ class ReconciliationManagerTest {
 
     }
 
+    @Test
+    void verify_streamingReconciliation() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenReturn(ServiceResult.success());
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+
+        var response = responseBuilder(200, BASE_REGISTRY).build();
+        when(httpClient.execute(isA(Request.class))).thenReturn(response);
+        when(typeManager.getMapper()).thenReturn(mapper);
+
+        specification.registerGroup(GroupDefinition.Builder.newInstance()
+                .singular("foogroup")
+                .plural("foogroups")
+                .build());
+
+        managerBuilder().streaming(true).build().run();
+
+        verify(reconciler).reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class));
+        verify(typeManager, never()).readValue(isA(String.class), isA(Class.class));
+    }
+
+    @Test
+    void verify_compactStorage() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        var groups = new ArrayList<Object>();
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenAnswer(invocation -> {
+            groups.addAll(((Map<?, ?>) invocation.getArgument(0, TypedRegistry.class).get("foogroups")).values());
+            return ServiceResult.success();
+        });
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+        when(httpClient.execute(isA(Request.class))).thenReturn(responseBuilder(200, "{}").build());
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenReturn(mapper.readValue(BASE_REGISTRY, Map.class));
+        specification.registerGroup(GroupDefinition.Builder.newInstance()
+                .singular("foogroup")
+                .plural("foogroups")
+                .build());
+
+        var result = managerBuilder().compactStorage(true).build().reconcile();
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(groups).isNotEmpty().allMatch(CompactMap.class::isInstance);
+    }
+
+    @Test
+    void verify_stringDeduplication() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        var registries = new ArrayList<TypedRegistry>();
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenAnswer(invocation -> {
+            registries.add(invocation.getArgument(0));
+            return ServiceResult.success();
+        });
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+        when(httpClient.execute(isA(Request.class))).thenReturn(responseBuilder(200, "{}").build());
+        var document = BASE_REGISTRY.replace("\"foogroupid\"", "\"description\": \"sample\",\n\"foogroupid\"");
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenReturn(mapper.readValue(document, Map.class));
+        specification.registerGroup(GroupDefinition.Builder.newInstance()
+                .singular("foogroup")
+                .plural("foogroups")
+                .build());
+
+        managerBuilder().build().reconcile();
+
+        assertThat(registries).hasSize(1);
+        var typed = registries.get(0);
+        var group = (Map<?, ?>) ((Map<?, ?>) typed.get("foogroups")).get("Fabrikam.Type1");
+        assertThat(group.get("description")).isSameAs(typed.get("registryid"));
+        assertThat(group.get("createdat")).isNotSameAs(typed.get("createdat"));
+    }
+
+    @Test
+    void verify_paginatedReconciliation() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenReturn(ServiceResult.success());
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+
+        var firstPage = responseBuilder(200, "{}", "https://test.com?limit=10")
+                .header("Link", "<https://test.com?offset=10&limit=10>; rel=\"next\"")
+                .build();
+        var lastPage = responseBuilder(200, "{}", "https://test.com?offset=10&limit=10").build();
+        when(httpClient.execute(isA(Request.class))).thenReturn(firstPage, lastPage);
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenAnswer(invocation -> mapper.readValue(BASE_REGISTRY, Map.class));
+
+        managerBuilder().pageSize(10).build().run();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(2)).execute(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.url().query())
+                .containsExactly("limit=10", "offset=10&limit=10");
+        verify(reconciler, times(2)).reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class));
+        verify(monitor, never()).severe(isA(String.class));
+    }
+
+    @Test
+    void verify_paginatedReconciliation_registryModified_aborts() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenReturn(ServiceResult.success());
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+
+        var firstPage = responseBuilder(200, "{}", "https://test.com?limit=10")
+                .header("ETag", "\"1-1000\"")
+                .header("Link", "<https://test.com?offset=10&limit=10>; rel=\"next\"")
+                .build();
+        var lastPage = responseBuilder(200, "{}", "https://test.com?offset=10&limit=10").header("ETag", "\"2-2000\"").build();
+        when(httpClient.execute(isA(Request.class))).thenReturn(firstPage, lastPage);
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenAnswer(invocation -> mapper.readValue(BASE_REGISTRY, Map.class));
+
+        var result = managerBuilder().pageSize(10).build().reconcile();
+
+        assertThat(result.failed()).isTrue();
+        verify(reconciler, times(1)).reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class));
+        verify(monitor).severe("Registry was modified while it was read. Aborting reconciliation.");
+    }
+
+    @Test
+    void verify_paginatedIncrementalReconciliation_untaggedPages_defersRemovals() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenReturn(ServiceResult.success());
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+        registerFooDefinitions();
+        var stateStore = new InMemoryReconciliationStateStore();
+        var manager = managerBuilder().pageSize(10).stateStore(stateStore).build();
+
+        when(httpClient.execute(isA(Request.class))).thenAnswer(invocation -> responseBuilder(200, "{}").build());
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenReturn(mapper.readValue(FOO_REGISTRY, Map.class));
+        manager.run();
+
+        var firstPage = responseBuilder(200, "{}", "https://test.com?limit=10")
+                .header("Link", "<https://test.com?offset=10&limit=10>; rel=\"next\"")
+                .build();
+        var lastPage = responseBuilder(200, "{}", "https://test.com?offset=10&limit=10").build();
+        when(httpClient.execute(isA(Request.class))).thenReturn(firstPage, lastPage);
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenAnswer(invocation -> mapper.readValue(BASE_REGISTRY, Map.class));
+        manager.run();
+
+        assertThat(stateStore.load()).containsOnlyKeys(FOO_XID);
+        var captor = ArgumentCaptor.forClass(ReconciliationContext.class);
+        verify(reconciler, times(1)).reconcile(isA(TypedRegistry.class), captor.capture());
+        assertThat(captor.getValue().getChanges().added()).containsOnlyKeys(FOO_XID);
+    }
+
+    @Test
+    void verify_notModified_skipsReconciliation() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenReturn(ServiceResult.success());
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+
+        var modified = responseBuilder(200, "{}").header("ETag", "\"2-1000\"").build();
+        var notModified = responseBuilder(304, "").build();
+        when(httpClient.execute(isA(Request.class))).thenReturn(modified, notModified);
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenReturn(mapper.readValue(BASE_REGISTRY, Map.class));
+
+        reconciliationManager.run();
+        reconciliationManager.run();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(2)).execute(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.header("If-None-Match"))
+                .containsExactly(null, "\"2-1000\"");
+        verify(reconciler, times(1)).reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class));
+        verify(monitor, never()).severe(isA(String.class));
+    }
+
+    @Test
+    void verify_failedReconciliation_doesNotRecordEntityTag() throws IOException {
+        when(registry.getReconcilers()).thenReturn(List.of());
+
+        var invalid = responseBuilder(200, "{}").header("ETag", "\"2-1000\"").build();
+        var valid = responseBuilder(200, "{}").build();
+        when(httpClient.execute(isA(Request.class))).thenReturn(invalid, valid);
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenReturn(Map.of(), mapper.readValue(BASE_REGISTRY, Map.class));
+
+        reconciliationManager.run();
+        reconciliationManager.run();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(2)).execute(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.header("If-None-Match")).containsOnlyNulls();
+    }
+
+    @Test
+    void verify_incrementalReconciliation() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenReturn(ServiceResult.success());
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+        registerFooDefinitions();
+        var stateStore = new InMemoryReconciliationStateStore();
+        var manager = managerBuilder().stateStore(stateStore).build();
+
+        when(httpClient.execute(isA(Request.class))).thenAnswer(invocation -> responseBuilder(200, "{}").build());
+        when(typeManager.readValue(isA(String.class), (Class) notNull()))
+                .thenReturn(mapper.readValue(FOO_REGISTRY, Map.class), mapper.readValue(FOO_REGISTRY, Map.class), mapper.readValue(BASE_REGISTRY, Map.class));
+
+        manager.run();
+        assertThat(stateStore.load()).containsOnlyKeys(FOO_XID);
+
+        manager.run();
+        manager.run();
+        assertThat(stateStore.load()).isEmpty();
+
+        var captor = ArgumentCaptor.forClass(ReconciliationContext.class);
+        verify(reconciler, times(2)).reconcile(isA(TypedRegistry.class), captor.capture());
+        var changes = captor.getAllValues().stream().map(ReconciliationContext::getChanges).toList();
+        assertThat(changes.get(0).added()).containsOnlyKeys(FOO_XID);
+        assertThat(changes.get(1).removed()).extracting(ResourceState::xid).containsExactly(FOO_XID);
+    }
+
+    @Test
+    void verify_incrementalReconciliation_failureDoesNotUpdateState() throws IOException {
+        var reconciler = mock(ResourceReconciler.class);
+        when(reconciler.resourceType()).thenReturn("foo");
+        when(reconciler.reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class))).thenReturn(ServiceResult.unexpected("error"));
+        when(registry.getReconcilers()).thenReturn(List.of(reconciler));
+        registerFooDefinitions();
+        var stateStore = new InMemoryReconciliationStateStore();
+
+        when(httpClient.execute(isA(Request.class))).thenAnswer(invocation -> responseBuilder(200, "{}").build());
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenAnswer(invocation -> mapper.readValue(FOO_REGISTRY, Map.class));
+
+        var manager = managerBuilder().stateStore(stateStore).build();
+        manager.run();
+        manager.run();
+
+        assertThat(stateStore.load()).isEmpty();
+        verify(reconciler, times(2)).reconcile(isA(TypedRegistry.class), isA(ReconciliationContext.class));
+    }
+
+    @Test
+    void verify_errorResponse_returnsFailure() throws IOException {
+        when(httpClient.execute(isA(Request.class))).thenReturn(responseBuilder(503, "").build());
+
+        var result = reconciliationManager.reconcile();
+
+        assertThat(result.failed()).isTrue();
+        verify(monitor).severe("Registry request returned error code: 503");
+    }
+
+    @Test
+    void verify_invalidRegistry_failsFast() throws IOException {
+        when(httpClient.execute(isA(Request.class))).thenAnswer(invocation -> responseBuilder(200, "{}").build());
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenReturn(Map.of());
+
+        var result = reconciliationManager.reconcile();
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail().lines().filter(line -> line.startsWith("Missing property"))).hasSize(1);
+
+        var fullResult = managerBuilder().violationLimit(ViolationLimit.FULL).build().reconcile();
+
+        assertThat(fullResult.failed()).isTrue();
+        assertThat(fullResult.getFailureDetail().lines().filter(line -> line.startsWith("Missing property")).count()).isGreaterThan(1);
+    }
+
+    @Test
+    void verify_noPageSize_requestsCompleteRegistry() throws IOException {
+        when(registry.getReconcilers()).thenReturn(List.of());
+        when(httpClient.execute(isA(Request.class))).thenReturn(responseBuilder(200, "{}").build());
+        when(typeManager.readValue(isA(String.class), (Class) notNull())).thenReturn(mapper.readValue(BASE_REGISTRY, Map.class));
+
+        reconciliationManager.run();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient).execute(captor.capture());
+        assertThat(captor.getValue().url().query()).isNull();
+    }
+
     @BeforeEach
     void setUp() {
         registry = mock(ResourceReconcilerRegistry.class);
@@ -82,13 +411,38 @@ class ReconciliationManagerTest {
 
     }
 
+    private void registerFooDefinitions() {
+        specification.registerGroup(GroupDefinition.Builder.newInstance()
+                .singular("foogroup")
+                .plural("foogroups")
+                .resource(ResourceDefinition.Builder.newInstance()
+                        .singular("foo")
+                        .plural("foos")
+                        .build())
+                .build());
+    }
+
+    private ReconciliationManager.Builder managerBuilder() {
+        return ReconciliationManager.Builder.newInstance()
+                .reconcilerRegistry(registry)
+                .specification(specification)
+                .typeFactory(typeFactory)
+                .httpClient(httpClient)
+                .typeManager(typeManager)
+                .monitor(monitor);
+    }
+
     private Response.Builder responseBuilder(int code, String body) {
+        return responseBuilder(code, body, "http://test.com");
+    }
+
+    private Response.Builder responseBuilder(int code, String body, String url) {
         return new Response.Builder()
                 .protocol(HTTP_1_1)
                 .code(code)
                 .message("any")
                 .body(ResponseBody.create(body, MediaType.get("application/json")))
-                .request(new Request.Builder().url("http://test.com").build());
+                .request(new Request.Builder().url(url).build());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.manager;
+
+import org.eclipse.edc.registry.spi.reconciler.ResourceState;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistryDifferTest {
+    private RegistryDefinition definition;
+
+    @Test
+    void verify_addedChangedUnchangedRemoved() {
+        var lastApplied = Map.of(
+                "/foogroups/g1/foos/changed", new ResourceState("/foogroups/g1/foos/changed", "foo", "changed", "1.0", 1),
+                "/foogroups/g1/foos/unchanged", new ResourceState("/foogroups/g1/foos/unchanged", "foo", "unchanged", "1.0", 1),
+                "/foogroups/g1/foos/removed", new ResourceState("/foogroups/g1/foos/removed", "foo", "removed", "1.0", 1));
+        var differ = new RegistryDiffer(lastApplied);
+
+        var changes = differ.diff(registry(Map.of(
+                "changed", resource("changed", "1.0", 2),
+                "unchanged", resource("unchanged", "1.0", 1),
+                "added", resource("added", "1.0", 1))), definition);
+
+        assertThat(changes.added()).containsOnlyKeys("/foogroups/g1/foos/added");
+        assertThat(changes.changed()).containsOnlyKeys("/foogroups/g1/foos/changed");
+        assertThat(changes.removed()).isEmpty();
+        assertThat(differ.removals().removed()).extracting(ResourceState::xid).containsExactly("/foogroups/g1/foos/removed");
+        assertThat(differ.currentState()).containsOnlyKeys("/foogroups/g1/foos/changed", "/foogroups/g1/foos/unchanged", "/foogroups/g1/foos/added");
+    }
+
+    @Test
+    void verify_newLatestVersion_isChange() {
+        var differ = new RegistryDiffer(Map.of("/foogroups/g1/foos/r1", new ResourceState("/foogroups/g1/foos/r1", "foo", "r1", "1.0", 1)));
+
+        var changes = differ.diff(registry(Map.of("r1", resource("r1", "2.0", 1))), definition);
+
+        assertThat(changes.changed()).containsEntry("/foogroups/g1/foos/r1", new ResourceState("/foogroups/g1/foos/r1", "foo", "r1", "2.0", 1));
+    }
+
+    @Test
+    void verify_multipleParts_removalsAfterAllParts() {
+        var differ = new RegistryDiffer(Map.of(
+                "/foogroups/g1/foos/r1", new ResourceState("/foogroups/g1/foos/r1", "foo", "r1", "1.0", 1),
+                "/foogroups/g1/foos/r2", new ResourceState("/foogroups/g1/foos/r2", "foo", "r2", "1.0", 1)));
+
+        assertThat(differ.diff(registry(Map.of("r1", resource("r1", "1.0", 1))), definition).isEmpty()).isTrue();
+        assertThat(differ.diff(registry(Map.of("r2", resource("r2", "1.0", 1))), definition).isEmpty()).isTrue();
+
+        assertThat(differ.removals().isEmpty()).isTrue();
+    }
+
+    @BeforeEach
+    void setUp() {
+        definition = RegistryDefinition.Builder.newInstance()
+                .group(GroupDefinition.Builder.newInstance()
+                        .singular("foogroup")
+                        .plural("foogroups")
+                        .resource(ResourceDefinition.Builder.newInstance()
+                                .singular("foo")
+                                .plural("foos")
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private Map<String, Object> registry(Map<String, Object> resources) {
+        return Map.of("foogroups", Map.of("g1", Map.of("foogroupid", "g1", "foos", resources)));
+    }
+
+    private Map<String, Object> resource(String id, String version, int epoch) {
+        return Map.of("fooid", id,
+                "xid", "/foogroups/g1/foos/" + id,
+                "versions", Map.of(version, Map.of("versionid", version, "epoch", epoch)));
+    }
+}
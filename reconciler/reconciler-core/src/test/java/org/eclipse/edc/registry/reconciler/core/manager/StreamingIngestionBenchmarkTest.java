@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.manager;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Okio;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.eclipse.edc.registry.spi.reconciler.ReconciliationContext;
+import org.eclipse.edc.registry.spi.reconciler.ResourceReconciler;
+import org.eclipse.edc.registry.spi.reconciler.ResourceReconcilerRegistry;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the retained heap of buffered and streaming registry ingestion against a large synthetic registry.
+ */
+@NightlyTest
+class StreamingIngestionBenchmarkTest {
+    private static final int GROUPS = 200;
+    private static final int RESOURCES_PER_GROUP = 100;
+    private static final int SAMPLE_INTERVAL = 20;
+    private static final String TIMESTAMP = "2024-12-19T06:00:00Z";
+
+    @TempDir
+    private Path tempDir;
+
+    private Path registryFile;
+    private ObjectMapper mapper;
+    private RegistrySpecification specification;
+    private ResourceReconcilerRegistry reconcilerRegistry;
+    private EdcHttpClient httpClient;
+    private TypeManager typeManager;
+    private Monitor monitor;
+
+    @Test
+    void compare_retainedHeap() throws IOException {
+        var bufferedProbe = new HeapProbe(1);
+        run(false, bufferedProbe);
+
+        var streamingProbe = new HeapProbe(SAMPLE_INTERVAL);
+        run(true, streamingProbe);
+
+        assertThat(bufferedProbe.invocations).isEqualTo(1);
+        assertThat(streamingProbe.invocations).isEqualTo(GROUPS * RESOURCES_PER_GROUP / StreamingRegistryReader.DEFAULT_BATCH_SIZE);
+        assertThat(bufferedProbe.peak).isPositive();
+        assertThat(streamingProbe.peak).isLessThan(bufferedProbe.peak);
+        verify(monitor, never()).severe(any(String.class));
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mapper = new ObjectMapper();
+        registryFile = tempDir.resolve("registry.json");
+        writeRegistry(registryFile);
+
+        specification = new RegistrySpecification("https://test.com");
+        specification.registerGroup(GroupDefinition.Builder.newInstance()
+                .singular("foogroup")
+                .plural("foogroups")
+                .resource(ResourceDefinition.Builder.newInstance()
+                        .singular("foo")
+                        .plural("foos")
+                        .build())
+                .build());
+
+        reconcilerRegistry = mock(ResourceReconcilerRegistry.class);
+        httpClient = mock(EdcHttpClient.class);
+        typeManager = mock(TypeManager.class);
+        monitor = mock(Monitor.class);
+
+        when(typeManager.getMapper()).thenReturn(mapper);
+        when(typeManager.readValue(isA(String.class), (Class<?>) notNull())).thenAnswer(invocation ->
+                mapper.readValue((String) invocation.getArgument(0), (Class<?>) invocation.getArgument(1)));
+        when(httpClient.execute(isA(Request.class))).thenAnswer(invocation -> createResponse());
+    }
+
+    private void run(boolean streaming, HeapProbe probe) {
+        when(reconcilerRegistry.getReconcilers()).thenReturn(List.of(probe));
+        probe.baseline = usedHeap();
+        ReconciliationManager.Builder.newInstance()
+                .reconcilerRegistry(reconcilerRegistry)
+                .specification(specification)
+                .typeFactory(mock(TypeFactory.class))
+                .httpClient(httpClient)
+                .typeManager(typeManager)
+                .monitor(monitor)
+                .streaming(streaming)
+                .build()
+                .run();
+    }
+
+    private Response createResponse() throws IOException {
+        var source = Okio.buffer(Okio.source(registryFile));
+        return new Response.Builder()
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("any")
+                .body(ResponseBody.create(source, MediaType.get("application/json"), Files.size(registryFile)))
+                .request(new Request.Builder().url("http://test.com").build())
+                .build();
+    }
+
+    /**
+     * Writes the registry with a generator so that the benchmark itself does not retain the document.
+     */
+    private void writeRegistry(Path file) throws IOException {
+        try (var generator = mapper.getFactory().createGenerator(Files.newOutputStream(file))) {
+            generator.writeStartObject();
+            generator.writeStringField("specversion", "0.5");
+            generator.writeStringField("registryid", "benchmark");
+            generator.writeStringField("self", "https://localhost:8080/xregistry");
+            generator.writeStringField("xid", "/xregistry");
+            generator.writeNumberField("epoch", 1);
+            generator.writeStringField("createdat", TIMESTAMP);
+            generator.writeStringField("modifiedat", TIMESTAMP);
+            generator.writeStringField("foogroupsurl", "#/foogroups");
+            generator.writeNumberField("foogroupscount", GROUPS);
+            generator.writeObjectFieldStart("foogroups");
+            for (var g = 0; g < GROUPS; g++) {
+                writeGroup(generator, "group" + g);
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeGroup(JsonGenerator generator, String groupId) throws IOException {
+        var groupSelf = "#/foogroups/" + groupId;
+        generator.writeObjectFieldStart(groupId);
+        generator.writeStringField("foogroupid", groupId);
+        generator.writeStringField("self", groupSelf);
+        generator.writeStringField("xid", "/foogroups/" + groupId);
+        generator.writeNumberField("epoch", 1);
+        generator.writeStringField("createdat", TIMESTAMP);
+        generator.writeStringField("modifiedat", TIMESTAMP);
+        generator.writeStringField("foosurl", groupSelf + "/foos");
+        generator.writeNumberField("fooscount", RESOURCES_PER_GROUP);
+        generator.writeObjectFieldStart("foos");
+        for (var r = 0; r < RESOURCES_PER_GROUP; r++) {
+            var resourceId = "resource" + r;
+            var resourceSelf = groupSelf + "/foos/" + resourceId;
+            generator.writeObjectFieldStart(resourceId);
+            generator.writeStringField("fooid", resourceId);
+            generator.writeStringField("self", resourceSelf);
+            generator.writeStringField("xid", resourceSelf.substring(1));
+            generator.writeStringField("metaurl", resourceSelf + "/meta");
+            generator.writeStringField("versionsurl", resourceSelf + "/versions");
+            generator.writeNumberField("versionscount", 1);
+            generator.writeObjectFieldStart("versions");
+            generator.writeObjectFieldStart("1.0");
+            generator.writeStringField("fooid", resourceId);
+            generator.writeStringField("versionid", "1.0");
+            generator.writeStringField("self", resourceSelf + "/versions/1.0");
+            generator.writeStringField("xid", resourceSelf.substring(1) + "/versions/1.0");
+            generator.writeNumberField("epoch", 1);
+            generator.writeBooleanField("isdefault", true);
+            generator.writeStringField("createdat", TIMESTAMP);
+            generator.writeStringField("modifiedat", TIMESTAMP);
+            generator.writeStringField("definition", "x".repeat(256));
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Samples the heap retained while the registry is being reconciled.
+     */
+    private static class HeapProbe implements ResourceReconciler {
+        private final int interval;
+        private long baseline;
+        private long peak;
+        private int invocations;
+
+        HeapProbe(int interval) {
+            this.interval = interval;
+        }
+
+        @Override
+        public String resourceType() {
+            return "foo";
+        }
+
+        @Override
+        public ServiceResult<Void> reconcile(TypedRegistry registry, ReconciliationContext context) {
+            if (invocations++ % interval == 0) {
+                peak = Math.max(peak, usedHeap() - baseline);
+            }
+            return ServiceResult.success();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registry.xregistry.library.validation.ValidationPlan;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registry.reconciler.core.manager.Definitions.BASE_REGISTRY;
+
+class StreamingRegistryReaderTest {
+    private StreamingRegistryReader reader;
+    private ValidationPlan plan;
+
+    @Test
+    void verify_dispatchPerGroup() throws IOException {
+        var dispatched = new ArrayList<Map<String, Object>>();
+
+        var result = reader.read(stream(TWO_GROUP_REGISTRY), dispatched::add);
+
+        assertThat(result.valid()).isTrue();
+        assertThat(dispatched).hasSize(2);
+        assertThat(dispatched).allSatisfy(registry -> {
+            assertThat(registry.get("registryid")).isEqualTo("sample");
+            assertThat((Map<?, ?>) registry.get("foogroups")).hasSize(1);
+        });
+        assertThat(dispatched).extracting(registry -> ((Map<?, ?>) registry.get("foogroups")).containsKey("group1"))
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void verify_baseRegistry() throws IOException {
+        var dispatched = new ArrayList<Map<String, Object>>();
+
+        var result = reader.read(stream(BASE_REGISTRY), dispatched::add);
+
+        assertThat(result.valid()).isTrue();
+        assertThat(dispatched).hasSize(1);
+    }
+
+    @Test
+    void verify_invalidGroup_stopsReading() throws IOException {
+        var dispatched = new ArrayList<Map<String, Object>>();
+
+        var result = reader.read(stream(INVALID_SECOND_GROUP_REGISTRY), dispatched::add);
+
+        assertThat(result.valid()).isFalse();
+        assertThat(result.violations()).allMatch(v -> v.contains("group2"));
+        assertThat(dispatched).hasSize(1);
+    }
+
+    @Test
+    void verify_registryAttributesValidatedBeforeDispatch() throws IOException {
+        var dispatched = new ArrayList<Map<String, Object>>();
+
+        var result = reader.read(stream(MISSING_TRAILING_ATTRIBUTES_REGISTRY), dispatched::add);
+
+        assertThat(result.valid()).isFalse();
+        assertThat(result.violations()).anyMatch(v -> v.contains("foogroupscount"));
+        assertThat(dispatched).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_dispatchPerBatch() throws IOException {
+        var dispatched = new ArrayList<Map<String, Object>>();
+
+        var grouped = new StreamingRegistryReader(new ObjectMapper(), resourcePlan())
+                .read(stream(resourceRegistry("\"fooscount\": 2,", "")), dispatched::add);
+
+        assertThat(grouped.valid()).isTrue();
+        assertThat(dispatched).singleElement().satisfies(registry -> {
+            var group = (Map<String, Object>) ((Map<String, Object>) registry.get("foogroups")).get("group1");
+            assertThat((Map<String, Object>) group.get("foos")).containsOnlyKeys("foo1", "foo2");
+        });
+
+        dispatched.clear();
+        var batched = new StreamingRegistryReader(new ObjectMapper(), resourcePlan(), 1)
+                .read(stream(resourceRegistry("\"fooscount\": 2,", "")), dispatched::add);
+
+        assertThat(batched.valid()).isTrue();
+        assertThat(dispatched).hasSize(2);
+        assertThat(dispatched).allSatisfy(registry -> {
+            var group = (Map<String, Object>) ((Map<String, Object>) registry.get("foogroups")).get("group1");
+            assertThat(group).containsEntry("fooscount", 2);
+            assertThat((Map<?, ?>) group.get("foos")).hasSize(1);
+        });
+    }
+
+    @Test
+    void verify_groupAttributesValidatedBeforeDispatch() throws IOException {
+        var resourceReader = new StreamingRegistryReader(new ObjectMapper(), resourcePlan());
+        var dispatched = new ArrayList<Map<String, Object>>();
+
+        var valid = resourceReader.read(stream(resourceRegistry("", ",\n\"fooscount\": 2")), dispatched::add);
+
+        assertThat(valid.valid()).isTrue();
+        assertThat(dispatched).hasSize(1);
+
+        dispatched.clear();
+        var invalid = resourceReader.read(stream(resourceRegistry("", ",\n\"fooscount\": \"two\"")), dispatched::add);
+
+        assertThat(invalid.valid()).isFalse();
+        assertThat(invalid.violations()).anyMatch(v -> v.contains("fooscount"));
+        assertThat(dispatched).isEmpty();
+    }
+
+    @Test
+    void verify_invalidGroupContainer_fails() throws IOException {
+        var result = reader.read(stream("{\"foogroups\": []}"), registry -> {
+            throw new AssertionError("Unexpected dispatch");
+        });
+
+        assertThat(result.valid()).isFalse();
+        assertThat(result.violations()).containsExactly("Invalid type for Registry.foogroups");
+    }
+
+    @BeforeEach
+    void setUp() {
+        var registryDefinition = RegistryDefinition.Builder.newInstance()
+                .group(GroupDefinition.Builder.newInstance()
+                        .singular("foogroup")
+                        .plural("foogroups")
+                        .build())
+                .build();
+        plan = ValidationPlan.compile(registryDefinition);
+        reader = new StreamingRegistryReader(new ObjectMapper(), plan);
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+
+    private ValidationPlan resourcePlan() {
+        return ValidationPlan.compile(RegistryDefinition.Builder.newInstance()
+                .group(GroupDefinition.Builder.newInstance()
+                        .singular("foogroup")
+                        .plural("foogroups")
+                        .resource(ResourceDefinition.Builder.newInstance()
+                                .singular("foo")
+                                .plural("foos")
+                                .build())
+                        .build())
+                .build());
+    }
+
+    /**
+     * Returns a registry with a group of two resources. The given group attributes precede and follow the resources.
+     */
+    private String resourceRegistry(String leading, String trailing) {
+        return RESOURCE_REGISTRY.formatted(leading, trailing);
+    }
+
+    private static final String TWO_GROUP_REGISTRY = """
+            {
+              "specversion": "0.5",
+              "registryid": "sample",
+              "self": "https://localhost:8080/xregistry",
+              "xid": "/xregistry",
+              "epoch": 1,
+              "createdat": "2024-12-19T06:00:00Z",
+              "modifiedat": "2024-12-19T06:00:00Z",
+              "foogroupsurl": "#/foogroups/",
+              "foogroups": {
+                "group1": {
+                  "foogroupid": "group1",
+                  "self": "#/foogroups/group1",
+                  "xid": "/foogroups/group1",
+                  "epoch": 1,
+                  "createdat": "2024-12-19T06:00:00Z",
+                  "modifiedat": "2024-12-19T06:00:00Z"
+                },
+                "group2": {
+                  "foogroupid": "group2",
+                  "self": "#/foogroups/group2",
+                  "xid": "/foogroups/group2",
+                  "epoch": 1,
+                  "createdat": "2024-12-19T06:00:00Z",
+                  "modifiedat": "2024-12-19T06:00:00Z"
+                }
+              },
+              "foogroupscount": 2
+            }""";
+
+    private static final String INVALID_SECOND_GROUP_REGISTRY = """
+            {
+              "specversion": "0.5",
+              "registryid": "sample",
+              "self": "https://localhost:8080/xregistry",
+              "xid": "/xregistry",
+              "epoch": 1,
+              "createdat": "2024-12-19T06:00:00Z",
+              "modifiedat": "2024-12-19T06:00:00Z",
+              "foogroupsurl": "#/foogroups/",
+              "foogroupscount": 2,
+              "foogroups": {
+                "group1": {
+                  "foogroupid": "group1",
+                  "self": "#/foogroups/group1",
+                  "xid": "/foogroups/group1",
+                  "epoch": 1,
+                  "createdat": "2024-12-19T06:00:00Z",
+                  "modifiedat": "2024-12-19T06:00:00Z"
+                },
+                "group2": {
+                  "foogroupid": "group2"
+                }
+              }
+            }""";
+
+    private static final String MISSING_TRAILING_ATTRIBUTES_REGISTRY = """
+            {
+              "specversion": "0.5",
+              "registryid": "sample",
+              "self": "https://localhost:8080/xregistry",
+              "xid": "/xregistry",
+              "epoch": 1,
+              "createdat": "2024-12-19T06:00:00Z",
+              "modifiedat": "2024-12-19T06:00:00Z",
+              "foogroupsurl": "#/foogroups/",
+              "foogroups": {
+                "group1": {
+                  "foogroupid": "group1",
+                  "self": "#/foogroups/group1",
+                  "xid": "/foogroups/group1",
+                  "epoch": 1,
+                  "createdat": "2024-12-19T06:00:00Z",
+                  "modifiedat": "2024-12-19T06:00:00Z"
+                }
+              }
+            }""";
+
+    private static final String RESOURCE_REGISTRY = """
+            {
+              "specversion": "0.5",
+              "registryid": "sample",
+              "self": "https://localhost:8080/xregistry",
+              "xid": "/xregistry",
+              "epoch": 1,
+              "createdat": "2024-12-19T06:00:00Z",
+              "modifiedat": "2024-12-19T06:00:00Z",
+              "foogroupsurl": "#/foogroups/",
+              "foogroupscount": 1,
+              "foogroups": {
+                "group1": {
+                  "foogroupid": "group1",
+                  "self": "#/foogroups/group1",
+                  "xid": "/foogroups/group1",
+                  "epoch": 1,
+                  "createdat": "2024-12-19T06:00:00Z",
+                  "modifiedat": "2024-12-19T06:00:00Z",
+                  %s
+                  "foos": {
+                    "foo1": {
+                      "fooid": "foo1",
+                      "self": "#/foogroups/group1/foos/foo1",
+                      "xid": "/foogroups/group1/foos/foo1",
+                      "metaurl": "#/foogroups/group1/foos/foo1/meta",
+                      "versionsurl": "#/foogroups/group1/foos/foo1/versions",
+                      "versionscount": 0
+                    },
+                    "foo2": {
+                      "fooid": "foo2",
+                      "self": "#/foogroups/group1/foos/foo2",
+                      "xid": "/foogroups/group1/foos/foo2",
+                      "metaurl": "#/foogroups/group1/foos/foo2/meta",
+                      "versionsurl": "#/foogroups/group1/foos/foo2/versions",
+                      "versionscount": 0
+                    }
+                  },
+                  "foosurl": "#/foogroups/group1/foos"%s
+                }
+              }
+            }""";
+}
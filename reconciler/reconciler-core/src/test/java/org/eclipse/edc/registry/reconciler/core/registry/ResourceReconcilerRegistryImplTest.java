@@ -24,6 +24,7 @@ import java.util.List;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ResourceReconcilerRegistryImplTest {
 
@@ -41,6 +42,53 @@ class ResourceReconcilerRegistryImplTest {
         assertThat(reconcilers.get(2).resourceType()).isEqualTo("baz");
     }
 
+    @Test
+    void verify_executionLevels() {
+        var registry = new ResourceReconcilerRegistryImpl();
+
+        registry.registerReconciler(new MockReconciler("bar", emptyList()));
+        registry.registerReconciler(new MockReconciler("qux", emptyList()));
+        registry.registerReconciler(new MockReconciler("baz", List.of("foo", "qux")));
+        registry.registerReconciler(new MockReconciler("foo", List.of("bar", "unknown")));
+
+        assertThat(registry.getExecutionLevels())
+                .extracting(level -> level.stream().map(ResourceReconciler::resourceType).toList())
+                .containsExactly(List.of("bar", "qux"), List.of("foo"), List.of("baz"));
+    }
+
+    @Test
+    void verify_orderCached() {
+        var registry = new ResourceReconcilerRegistryImpl();
+        registry.registerReconciler(new MockReconciler("bar", emptyList()));
+
+        assertThat(registry.getReconcilers()).isSameAs(registry.getReconcilers());
+        assertThat(registry.getExecutionLevels()).isSameAs(registry.getExecutionLevels());
+    }
+
+    @Test
+    void verify_cycleDetected() {
+        var registry = new ResourceReconcilerRegistryImpl();
+
+        registry.registerReconciler(new MockReconciler("bar", List.of("baz")));
+        registry.registerReconciler(new MockReconciler("foo", List.of("bar")));
+
+        assertThatThrownBy(() -> registry.registerReconciler(new MockReconciler("baz", List.of("foo"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cyclic reconciler dependencies: bar -> baz -> foo -> bar");
+
+        assertThat(registry.getReconcilers()).extracting(ResourceReconciler::resourceType).containsExactly("bar", "foo");
+    }
+
+    @Test
+    void verify_selfDependencyDetected() {
+        var registry = new ResourceReconcilerRegistryImpl();
+
+        assertThatThrownBy(() -> registry.registerReconciler(new MockReconciler("foo", List.of("foo"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cyclic reconciler dependencies: foo -> foo");
+        assertThat(registry.getReconcilers()).isEmpty();
+    }
+
     private static class MockReconciler implements ResourceReconciler {
         private String type;
         private final List<String> dependencies;
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.reconciler.core.scheduler;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReconciliationSchedulerTest {
+    private static final long JITTER = 7;
+
+    private ScheduledExecutorService executor;
+    private Supplier<ServiceResult<Void>> task;
+    private ReconciliationScheduler scheduler;
+
+    @Test
+    void verify_scheduleWithJitter() {
+        when(task.get()).thenReturn(ServiceResult.success());
+
+        scheduler.start();
+        runScheduled(1);
+
+        verify(executor).schedule(any(Runnable.class), eq(5_000 + JITTER), eq(MILLISECONDS));
+        verify(executor).schedule(any(Runnable.class), eq(60_000 + JITTER), eq(MILLISECONDS));
+    }
+
+    @Test
+    void verify_exponentialBackoff() {
+        when(task.get()).thenReturn(ServiceResult.unexpected("error"), ServiceResult.unexpected("error"),
+                ServiceResult.unexpected("error"), ServiceResult.unexpected("error"), ServiceResult.success());
+
+        scheduler.start();
+        runScheduled(5);
+
+        var delays = ArgumentCaptor.forClass(Long.class);
+        verify(executor, times(6)).schedule(any(Runnable.class), delays.capture(), eq(MILLISECONDS));
+        assertThat(delays.getAllValues()).containsExactly(5_000 + JITTER, 120_000 + JITTER, 240_000 + JITTER,
+                300_000 + JITTER, 300_000 + JITTER, 60_000 + JITTER);
+    }
+
+    @Test
+    void verify_exceptionTreatedAsFailure() {
+        when(task.get()).thenThrow(new IllegalStateException("error"));
+
+        scheduler.runCycle();
+
+        assertThat(scheduler.nextDelay()).isEqualTo(Duration.ofSeconds(120));
+    }
+
+    @Test
+    void verify_errorReschedules() {
+        when(task.get()).thenThrow(new AssertionError("error"));
+
+        scheduler.start();
+        runScheduled(1);
+
+        verify(executor).schedule(any(Runnable.class), eq(120_000 + JITTER), eq(MILLISECONDS));
+    }
+
+    @Test
+    void verify_reconcilerFailureNotBackedOff() {
+        when(task.get()).thenReturn(ServiceResult.unexpected("error"), ServiceResult.conflict("error"));
+
+        scheduler.runCycle();
+        scheduler.runCycle();
+
+        assertThat(scheduler.nextDelay()).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void verify_noOverlappingCycles() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(task.get()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return ServiceResult.success();
+        });
+
+        var first = CompletableFuture.supplyAsync(scheduler::runCycle);
+        assertThat(started.await(5, SECONDS)).isTrue();
+
+        assertThat(scheduler.runCycle()).isFalse();
+
+        release.countDown();
+        assertThat(first.get(5, SECONDS)).isTrue();
+        verify(task, times(1)).get();
+    }
+
+    @Test
+    void verify_stop_cancelsNextCycle() {
+        var future = mock(ScheduledFuture.class);
+        doReturn(future).when(executor).schedule(any(Runnable.class), anyLong(), eq(MILLISECONDS));
+
+        scheduler.start();
+        scheduler.stop();
+
+        verify(future).cancel(false);
+    }
+
+    @Test
+    void verify_invalidConfig() {
+        assertThatThrownBy(() -> new SchedulerConfig(Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SchedulerConfig(Duration.ofSeconds(10), Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        executor = mock(ScheduledExecutorService.class);
+        task = mock(Supplier.class);
+        var config = new SchedulerConfig(Duration.ofSeconds(60), Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(300));
+        scheduler = new ReconciliationScheduler(task, executor, config, bound -> JITTER, mock(Monitor.class));
+    }
+
+    /**
+     * Runs the given number of scheduled cycles on the calling thread.
+     */
+    private void runScheduled(int cycles) {
+        var captor = ArgumentCaptor.forClass(Runnable.class);
+        for (var i = 1; i <= cycles; i++) {
+            verify(executor, times(i)).schedule(captor.capture(), anyLong(), eq(MILLISECONDS));
+            captor.getValue().run();
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.edc.registry.reconciler.policy;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.registry.spi.reconciler.ReconciliationContext;
 import org.eclipse.edc.registry.spi.reconciler.ResourceReconciler;
+import org.eclipse.edc.registry.spi.reconciler.ResourceState;
 import org.eclipse.edc.registry.xregistry.model.typed.TypedRegistry;
 import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -30,6 +31,8 @@ import static org.eclipse.edc.spi.result.ServiceResult.success;
  * Reconciles policy objects.
  */
 public class PolicyResourceReconciler implements ResourceReconciler {
+    private static final String POLICY_TYPE = "policy";
+
     private PolicyDefinitionStore policyStore;
     private TransactionContext transactionContext;
 
@@ -45,23 +48,37 @@ public class PolicyResourceReconciler implements ResourceReconciler {
 
     @Override
     public String resourceType() {
-        return "policy";
+        return POLICY_TYPE;
     }
 
+    /**
+     * Applies policy resources that were modified since the last reconciliation and deletes removed ones.
+     */
     @Override
     public ServiceResult<Void> reconcile(TypedRegistry registry, ReconciliationContext context) {
         var groups = registry.getGroups(GROUPS_NAME);
         transactionContext.execute(() -> {
-            groups.values().forEach(group -> group.getResourcesOfType(TypedPolicyResource.class)
+            groups.values().forEach(group -> group.getResourcesOfType(TypedPolicyResource.class).stream()
+                    .filter(context::isModified)
                     .forEach(this::processResource));
+            context.getRemoved().stream()
+                    .filter(state -> POLICY_TYPE.equals(state.type()))
+                    .forEach(this::removeResource);
         });
         return success();
     }
 
+    private void removeResource(ResourceState state) {
+        var result = policyStore.delete(state.id());
+        if (result.failed()) {
+            monitor.debug("Removed policy not found: " + state.id());
+        }
+    }
+
     private void processResource(TypedPolicyResource resource) {
         // TODO retrieve latest policy and compare it with the existing one
-        var version = resource.getLatestVersion();
-        String policyId = "";
+        var version = resource.getDefaultVersion();
+        String policyId = resource.getId();
         var policy = policyStore.findById(policyId);
         if (policy != null) {
             // TODO rehydrate policy and update
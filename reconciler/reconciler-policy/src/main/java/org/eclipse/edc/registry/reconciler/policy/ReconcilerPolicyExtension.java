@@ -58,7 +58,7 @@ public class ReconcilerPolicyExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         specification.registerGroup(createPolicyGroupDefinition());
-        typeFactory.registerResource("policy", TypedPolicyResource::new);
+        typeFactory.registerResource("policy", TypedPolicyResource.class, TypedPolicyResource::new);
         reconcilerRegistry.registerReconciler(new PolicyResourceReconciler(policyStore, transactionContext, monitor));
     }
 
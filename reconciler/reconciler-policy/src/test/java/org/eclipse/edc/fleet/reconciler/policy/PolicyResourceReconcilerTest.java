@@ -18,20 +18,28 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.registry.spi.reconciler.ReconciliationContext;
+import org.eclipse.edc.registry.spi.reconciler.ResourceChanges;
+import org.eclipse.edc.registry.spi.reconciler.ResourceState;
 import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
 import org.eclipse.edc.registry.xregistry.model.typed.TypeFactoryImpl;
 import org.eclipse.edc.registry.xregistry.model.typed.TypedRegistry;
 import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
 import org.eclipse.edc.spi.monitor.Monitor;
-import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.eclipse.edc.registry.reconciler.policy.Definitions.POLICY_REGISTRY;
 import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyGroupDefinition;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class PolicyResourceReconcilerTest {
     private PolicyResourceReconciler reconciler;
@@ -53,14 +61,50 @@ class PolicyResourceReconcilerTest {
         reconciler.reconcile(typed, new ReconciliationContext());
     }
 
+    @Test
+    void verify_incrementalReconciliation_onlyModifiedAndRemoved() throws JsonProcessingException {
+        var typed = createRegistry();
+        var context = new ReconciliationContext();
+        var removed = new ResourceState("/policygroups/corporate.policies/policies/removed.policy", "policy", "Removed.Policy", "1.0", 1);
+        context.setChanges(new ResourceChanges(Map.of(), Map.of(), List.of(removed)));
+
+        reconciler.reconcile(typed, context);
+
+        verify(policyStore, never()).findById(anyString());
+        verify(policyStore).delete("Removed.Policy");
+    }
+
+    @Test
+    void verify_incrementalReconciliation_modified() throws JsonProcessingException {
+        var typed = createRegistry();
+        var context = new ReconciliationContext();
+        var xid = "/policygroups/corporate.policies/policies/corporate.headquarters.eu";
+        context.setChanges(new ResourceChanges(Map.of(xid, new ResourceState(xid, "policy", "Corporate.Headquarters.EU", "1.0", 1)), Map.of(), List.of()));
+
+        reconciler.reconcile(typed, context);
+
+        verify(policyStore).findById("Corporate.Headquarters.EU");
+        verify(policyStore, never()).delete(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private TypedRegistry createRegistry() throws JsonProcessingException {
+        return TypedRegistry.Builder.newInstance()
+                .untyped(mapper.readValue(POLICY_REGISTRY, Map.class))
+                .definition(specification.getRegistryDefinition())
+                .typeFactory(typeFactory)
+                .build();
+    }
+
     @BeforeEach
     void setUp() {
         mapper = new ObjectMapper();
         policyStore = mock(PolicyDefinitionStore.class);
-        reconciler = new PolicyResourceReconciler(policyStore, mock(TransactionContext.class), mock(Monitor.class));
+        when(policyStore.delete(anyString())).thenReturn(StoreResult.success());
+        reconciler = new PolicyResourceReconciler(policyStore, new NoopTransactionContext(), mock(Monitor.class));
         typeFactory = new TypeFactoryImpl();
         specification = new RegistrySpecification("https://test.com");
         specification.registerGroup(createPolicyGroupDefinition());
-        typeFactory.registerResource("policy", TypedPolicyResource::new);
+        typeFactory.registerResource("policy", TypedPolicyResource.class, TypedPolicyResource::new);
     }
 }
\ No newline at end of file
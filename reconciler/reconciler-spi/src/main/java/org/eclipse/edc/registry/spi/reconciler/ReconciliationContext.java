@@ -14,14 +14,51 @@
 
 package org.eclipse.edc.registry.spi.reconciler;
 
-import java.util.HashMap;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedResource;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyList;
 
 /**
  * Used to propagate reconciliation data
+ * <p>
+ * When reconciliation is incremental, the context carries the {@link ResourceChanges} for the registry data being
+ * reconciled. Otherwise, all resources are considered modified. The context is shared by reconcilers that may execute
+ * in parallel.
  */
 public class ReconciliationContext {
-    private Map<Class<?>, Object> cache = new HashMap<>();
+    private Map<Class<?>, Object> cache = new ConcurrentHashMap<>();
+    private volatile ResourceChanges changes;
+
+    /**
+     * Returns the changes for the registry data being reconciled or null if reconciliation is not incremental.
+     */
+    @Nullable
+    public ResourceChanges getChanges() {
+        return changes;
+    }
+
+    public void setChanges(@Nullable ResourceChanges changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * Returns true if the resource was added or changed since the last applied state.
+     */
+    public boolean isModified(TypedResource<?> resource) {
+        return changes == null || changes.isModified(resource.getXid());
+    }
+
+    /**
+     * Returns the resources removed since the last applied state.
+     */
+    public Collection<ResourceState> getRemoved() {
+        return changes == null ? emptyList() : changes.removed();
+    }
 
     @SuppressWarnings("unchecked")
     <T> T getData(Class<T> type) {
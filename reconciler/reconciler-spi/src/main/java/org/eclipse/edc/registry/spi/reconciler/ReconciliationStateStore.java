@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.spi.reconciler;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.Map;
+
+/**
+ * Persists the registry state that was last applied by reconciliation. The state is used to calculate the changes
+ * to apply in the next reconciliation cycle.
+ */
+@ExtensionPoint
+public interface ReconciliationStateStore {
+
+    /**
+     * Returns the last applied resource states keyed by xid, or an empty map if no state was applied.
+     */
+    Map<String, ResourceState> load();
+
+    /**
+     * Replaces the last applied state.
+     */
+    void save(Map<String, ResourceState> state);
+}
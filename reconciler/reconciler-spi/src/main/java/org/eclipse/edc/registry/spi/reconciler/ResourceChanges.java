@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.spi.reconciler;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Resources that changed since the last applied registry state.
+ *
+ * @param added   the resources that were added, keyed by xid
+ * @param changed the resources that were modified, keyed by xid
+ * @param removed the resources that were removed
+ */
+public record ResourceChanges(Map<String, ResourceState> added,
+                              Map<String, ResourceState> changed,
+                              Collection<ResourceState> removed) {
+
+    /**
+     * Returns changes containing only removed resources.
+     */
+    public static ResourceChanges removals(Collection<ResourceState> removed) {
+        return new ResourceChanges(emptyMap(), emptyMap(), removed);
+    }
+
+    /**
+     * Returns true if the resource with the xid was added or changed.
+     */
+    public boolean isModified(String xid) {
+        return added.containsKey(xid) || changed.containsKey(xid);
+    }
+
+    /**
+     * Returns true if no resources were added, changed, or removed.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+}
@@ -40,7 +40,8 @@ public interface ResourceReconciler {
 
     /**
      * Performs a reconciliation operation. Reconciliation may be called multiple times per cycle, for example, when registry
-     * resources are paginated.
+     * resources are paginated. Reconcilers should only apply resources reported as modified by the context and remove
+     * resources reported as removed.
      */
     ServiceResult<Void> reconcile(TypedRegistry registry, ReconciliationContext context);
 
@@ -23,6 +23,8 @@ public interface ResourceReconcilerRegistry {
 
     /**
      * Registers a reconciler.
+     *
+     * @throws IllegalArgumentException if the registration introduces a dependency cycle
      */
     void registerReconciler(ResourceReconciler reconciler);
 
@@ -30,4 +32,10 @@ public interface ResourceReconcilerRegistry {
      * Returns a collection of {@link ResourceReconciler}s order by their dependencies.
      */
     List<ResourceReconciler> getReconcilers();
+
+    /**
+     * Returns the reconcilers grouped in execution levels. The reconcilers of a level only depend on reconcilers of
+     * preceding levels and can be executed in parallel.
+     */
+    List<List<ResourceReconciler>> getExecutionLevels();
 }
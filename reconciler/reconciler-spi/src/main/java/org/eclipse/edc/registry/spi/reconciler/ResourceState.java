@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.spi.reconciler;
+
+/**
+ * The applied state of a registry resource.
+ *
+ * @param xid     the resource xid
+ * @param type    the resource type
+ * @param id      the resource id
+ * @param version the id of the latest resource version
+ * @param epoch   the epoch of the latest resource version
+ */
+public record ResourceState(String xid, String type, String id, String version, int epoch) {
+}
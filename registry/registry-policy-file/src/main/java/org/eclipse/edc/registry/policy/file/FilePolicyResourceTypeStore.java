@@ -0,0 +1,414 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registry.policy.store.InMemoryPolicyResourceTypeStore;
+import org.eclipse.edc.registry.policy.store.PolicyResourceTypeStore;
+import org.eclipse.edc.registry.policy.store.PolicyWriteJournal.Operation;
+import org.eclipse.edc.registry.server.spi.resource.ResourceXid;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedGroup;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.eclipse.edc.registry.policy.store.InMemoryPolicyResourceTypeStore.DEFAULT_LOCK_STRIPES;
+import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyResourceDefinition;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
+
+/**
+ * A durable store for policy resources.
+ * <p>
+ * Resources are served from an {@link InMemoryPolicyResourceTypeStore}, which passes each validated write to this
+ * store before applying it. The write is appended to the log and, if synchronous writes are enabled, forced to the
+ * storage device; it is applied and acknowledged only once it is durable. Writes hold the lock of their resource group
+ * only, and writes forced concurrently share a single force of the log.
+ * <p>
+ * Logs are numbered by generation. When the current log reaches the compaction threshold, a background task rolls
+ * over to the next generation and writes the store content to a snapshot, which records the first generation it does
+ * not cover and atomically replaces the previous snapshot; the covered logs are then deleted. On {@link #open()}, the
+ * snapshot and the subsequent logs are read through memory mappings and replayed. Log records contain the complete
+ * resource, so replaying a log over a snapshot that already reflects some of its writes yields the same content.
+ */
+public class FilePolicyResourceTypeStore implements PolicyResourceTypeStore, Closeable {
+    static final String SNAPSHOT_FILE = "policies.snapshot";
+    static final String LOG_PREFIX = "policies.";
+    static final String LOG_SUFFIX = ".log";
+
+    static final byte CREATED = 1;
+    static final byte UPDATED = 2;
+    static final byte DELETED = 3;
+    static final byte GENERATION = 4;
+
+    private final Path directory;
+    private final ObjectMapper mapper;
+    private final TypeFactory typeFactory;
+    private final long compactionThreshold;
+    private final boolean sync;
+    private final Monitor monitor;
+    private final ResourceDefinition resourceDefinition;
+    private final InMemoryPolicyResourceTypeStore memory;
+    private final ReentrantLock logLock = new ReentrantLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor;
+    private RecordLog log;
+    private long generation;
+    private volatile boolean recovering;
+    private volatile boolean failed;
+
+    /**
+     * Creates the store.
+     *
+     * @param directory           the directory holding the snapshot and the logs
+     * @param compactionThreshold the number of log records after which the log is compacted into a snapshot
+     * @param sync                if true, each write is forced to the storage device before it is acknowledged
+     */
+    public FilePolicyResourceTypeStore(Path directory,
+                                       ObjectMapper mapper,
+                                       TypeFactory typeFactory,
+                                       long compactionThreshold,
+                                       boolean sync,
+                                       Monitor monitor) {
+        this.directory = requireNonNull(directory, "directory");
+        this.mapper = requireNonNull(mapper, "mapper");
+        this.typeFactory = requireNonNull(typeFactory, "typeFactory");
+        this.compactionThreshold = compactionThreshold;
+        this.sync = sync;
+        this.monitor = requireNonNull(monitor, "monitor");
+        resourceDefinition = createPolicyResourceDefinition();
+        memory = new InMemoryPolicyResourceTypeStore(typeFactory, DEFAULT_LOCK_STRIPES, this::record);
+        compactor = Executors.newSingleThreadExecutor(task -> {
+            var thread = new Thread(task, "policy-log-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Recovers the store content from the snapshot and the logs and opens the current log for writing. An incomplete
+     * record at the end of the current log, left by an interrupted write, is discarded.
+     *
+     * @throws IOException if the files cannot be read or contain a record that cannot be replayed
+     */
+    public void open() throws IOException {
+        logLock.lock();
+        recovering = true;
+        try {
+            Files.createDirectories(directory);
+            generation = 0;
+            RecordLog.read(directory.resolve(SNAPSHOT_FILE), (type, payload) -> {
+                if (type == GENERATION) {
+                    generation = ByteBuffer.wrap(payload).getLong();
+                } else {
+                    replay(type, payload);
+                }
+            });
+            var generations = logGenerations();
+            var current = generations.isEmpty() ? generation : Math.max(generation, generations.get(generations.size() - 1));
+            for (var logGeneration : generations) {
+                if (logGeneration < generation) {
+                    Files.delete(directory.resolve(logFile(logGeneration)));
+                } else if (logGeneration < current) {
+                    RecordLog.read(directory.resolve(logFile(logGeneration)), this::replay);
+                }
+            }
+            var currentLog = new RecordLog(directory.resolve(logFile(current)));
+            currentLog.open(this::replay);
+            syncDirectory();
+            generation = current;
+            log = currentLog;
+        } finally {
+            recovering = false;
+            logLock.unlock();
+        }
+        if (log.records() >= compactionThreshold) {
+            scheduleCompaction();
+        }
+    }
+
+    /**
+     * Waits for a running compaction and closes the log. Writes in progress complete first.
+     */
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(1, MINUTES)) {
+                monitor.warning("Policy log compaction did not complete before the store was closed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        var current = memory.quiesce(() -> {
+            logLock.lock();
+            try {
+                var open = log;
+                log = null;
+                return open;
+            } finally {
+                logLock.unlock();
+            }
+        });
+        if (current != null) {
+            try {
+                current.force();
+            } finally {
+                current.close();
+            }
+        }
+    }
+
+    @Override
+    public Class<TypedPolicyResource> getType() {
+        return TypedPolicyResource.class;
+    }
+
+    @Override
+    public @NotNull Collection<TypedGroup> fetchGroups(int offset, int maxResults) {
+        return memory.fetchGroups(offset, maxResults);
+    }
+
+    @Override
+    public int resourceCount() {
+        return memory.resourceCount();
+    }
+
+    @Override
+    public long revision() {
+        return memory.revision();
+    }
+
+    @Override
+    public ServiceResult<Void> createResource(TypedPolicyResource resource) {
+        return memory.createResource(resource);
+    }
+
+    @Override
+    public ServiceResult<Void> updateResource(TypedPolicyResource resource) {
+        return memory.updateResource(resource);
+    }
+
+    @Override
+    public ServiceResult<Void> deleteResource(String id) {
+        return memory.deleteResource(id);
+    }
+
+    /**
+     * Logs a write before the in-memory store applies it. Invoked holding the lock of the resource group. If the log
+     * cannot be written or forced, its state is unknown and all further writes are rejected.
+     */
+    private ServiceResult<Void> record(Operation operation, String xid, @Nullable Map<String, Object> resource) {
+        if (recovering) {
+            return ServiceResult.success();
+        }
+        byte[] payload;
+        try {
+            payload = resource == null ? xid.getBytes(UTF_8) : mapper.writeValueAsBytes(resource);
+        } catch (IOException e) {
+            return ServiceResult.unexpected("Unable to serialize policy resource " + xid + ": " + e.getMessage());
+        }
+        RecordLog current;
+        long position;
+        logLock.lock();
+        try {
+            if (log == null) {
+                return ServiceResult.unexpected("Policy store is not open");
+            }
+            if (failed) {
+                return ServiceResult.unexpected("Policy store rejects writes after a log failure");
+            }
+            current = log;
+            position = current.append(type(operation), payload);
+        } catch (IOException e) {
+            return fail(xid, e);
+        } finally {
+            logLock.unlock();
+        }
+        if (sync) {
+            try {
+                current.sync(position);
+            } catch (IOException e) {
+                return fail(xid, e);
+            }
+        }
+        if (current.records() >= compactionThreshold) {
+            scheduleCompaction();
+        }
+        return ServiceResult.success();
+    }
+
+    private ServiceResult<Void> fail(String xid, IOException e) {
+        failed = true;
+        monitor.severe("Unable to write policy log, rejecting further writes", e);
+        return ServiceResult.unexpected("Unable to persist policy resource: " + xid);
+    }
+
+    private void scheduleCompaction() {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactor.execute(this::compact);
+        } catch (RejectedExecutionException e) {
+            compacting.set(false);
+        }
+    }
+
+    /**
+     * Rolls over to a new log and writes the store content to a snapshot covering the previous logs. The snapshot is
+     * written to a temporary file which replaces the previous snapshot once it is complete, so a failure leaves the
+     * previous snapshot and the logs intact.
+     */
+    private void compact() {
+        try {
+            var covered = memory.quiesce(this::roll);
+            var temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+            try (var snapshot = RecordLog.create(temporary)) {
+                snapshot.append(GENERATION, ByteBuffer.allocate(Long.BYTES).putLong(covered).array());
+                for (var group : memory.fetchGroups(0, Integer.MAX_VALUE)) {
+                    for (var resource : group.getResources().values()) {
+                        snapshot.append(CREATED, mapper.writeValueAsBytes(resource.asMap()));
+                    }
+                }
+                snapshot.force();
+            }
+            Files.move(temporary, directory.resolve(SNAPSHOT_FILE), ATOMIC_MOVE, REPLACE_EXISTING);
+            syncDirectory();
+            for (var logGeneration : logGenerations()) {
+                if (logGeneration < covered) {
+                    Files.deleteIfExists(directory.resolve(logFile(logGeneration)));
+                }
+            }
+        } catch (IOException e) {
+            monitor.warning("Unable to compact policy log", e);
+        } catch (UncheckedIOException e) {
+            monitor.warning("Unable to compact policy log", e.getCause());
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    /**
+     * Closes the current log and opens a log of the next generation. Invoked while no write is in progress, so that
+     * every write in the closed logs is reflected by the in-memory store.
+     *
+     * @return the generation of the new log
+     */
+    private long roll() {
+        logLock.lock();
+        try {
+            if (log == null || failed) {
+                throw new IOException("Policy log is not writable");
+            }
+            log.force();
+            var next = new RecordLog(directory.resolve(logFile(generation + 1)));
+            next.open((type, payload) -> {
+                throw new IOException("Log generation " + (generation + 1) + " exists");
+            });
+            syncDirectory();
+            log.close();
+            log = next;
+            return ++generation;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replay(byte type, byte[] payload) throws IOException {
+        ServiceResult<Void> result;
+        if (type == DELETED) {
+            result = memory.deleteResource(new String(payload, UTF_8));
+            if (result.failed() && result.reason() == NOT_FOUND) {
+                return;
+            }
+        } else if (type == CREATED || type == UPDATED) {
+            var resource = new TypedPolicyResource(mapper.readValue(payload, Map.class), resourceDefinition, typeFactory);
+            result = find(resource.getXid()) == null ? memory.createResource(resource) : memory.updateResource(resource);
+        } else {
+            throw new IOException("Unknown policy record type: " + type);
+        }
+        if (result.failed()) {
+            throw new IOException("Unable to replay policy record: " + result.getFailureDetail());
+        }
+    }
+
+    private List<Long> logGenerations() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(LOG_PREFIX) && name.endsWith(LOG_SUFFIX))
+                    .map(name -> name.substring(LOG_PREFIX.length(), name.length() - LOG_SUFFIX.length()))
+                    .filter(value -> !value.isEmpty() && value.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Forces the directory entries to the storage device, so that created, renamed and deleted files are durable.
+     */
+    private void syncDirectory() throws IOException {
+        try (var channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        }
+    }
+
+    @Nullable
+    private TypedPolicyResource find(@Nullable String xid) {
+        var parsed = ResourceXid.parse(xid);
+        return parsed == null ? null : memory.getResource(parsed.groupId(), parsed.resourceId());
+    }
+
+    static String logFile(long generation) {
+        return LOG_PREFIX + generation + LOG_SUFFIX;
+    }
+
+    private static byte type(Operation operation) {
+        return switch (operation) {
+            case CREATE -> CREATED;
+            case UPDATE -> UPDATED;
+            case DELETE -> DELETED;
+        };
+    }
+}
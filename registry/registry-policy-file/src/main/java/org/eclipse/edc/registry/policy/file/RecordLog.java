@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only file of checksummed records.
+ * <p>
+ * Each record is framed as {@code length (int), crc32 (int), type (byte), payload}. The checksum covers the type and
+ * the payload. Files are read through a read-only memory mapping. Reading stops at the first incomplete or corrupt
+ * record, which is the tail left by an interrupted append; {@link #open(RecordConsumer)} truncates it.
+ * <p>
+ * Appends are serialized. {@link #sync(long)} forces appended records to the storage device; concurrent callers share
+ * a single force, so that appends from several threads are committed together.
+ */
+final class RecordLog implements Closeable {
+    static final int HEADER_SIZE = 9;
+
+    private final Path path;
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private FileChannel channel;
+    private long records;
+    private volatile long written;
+    private volatile long synced;
+
+    /**
+     * Consumes records read from a file.
+     */
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(byte type, byte[] payload) throws IOException;
+    }
+
+    RecordLog(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Creates an empty log, replacing an existing file.
+     */
+    static RecordLog create(Path path) throws IOException {
+        var log = new RecordLog(path);
+        log.channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING);
+        return log;
+    }
+
+    /**
+     * Reads the records of a file.
+     *
+     * @return the length of the valid part of the file
+     */
+    static long read(Path path, RecordConsumer consumer) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (var channel = FileChannel.open(path, READ)) {
+            var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File exceeds the maximum mappable size: " + path);
+            }
+            var buffer = channel.map(READ_ONLY, 0, size);
+            var crc = new CRC32();
+            while (buffer.remaining() >= HEADER_SIZE) {
+                var start = buffer.position();
+                var length = buffer.getInt();
+                var checksum = buffer.getInt();
+                var type = buffer.get();
+                if (length < 0 || length > buffer.remaining()) {
+                    return start;
+                }
+                var payload = new byte[length];
+                buffer.get(payload);
+                crc.reset();
+                crc.update(type);
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    return start;
+                }
+                consumer.accept(type, payload);
+            }
+            return buffer.position();
+        }
+    }
+
+    /**
+     * Reads the records of the log, truncates an invalid tail and opens the log for appending.
+     */
+    void open(RecordConsumer consumer) throws IOException {
+        var valid = read(path, (type, payload) -> {
+            records++;
+            consumer.accept(type, payload);
+        });
+        channel = FileChannel.open(path, CREATE, WRITE);
+        channel.truncate(valid);
+        channel.position(valid);
+        written = valid;
+        synced = valid;
+    }
+
+    /**
+     * Appends a record. If the append fails, the log is truncated to its previous length if possible.
+     *
+     * @return the length of the log including the record
+     */
+    synchronized long append(byte type, byte[] payload) throws IOException {
+        var crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        var buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(type)
+                .put(payload)
+                .flip();
+        var start = channel.position();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            try {
+                channel.truncate(start);
+                channel.position(start);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        records++;
+        written = start + buffer.limit();
+        return written;
+    }
+
+    /**
+     * Forces the log up to the position to the storage device. Returns without forcing if a concurrent caller has
+     * already done so.
+     */
+    void sync(long position) throws IOException {
+        if (synced >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (synced < position) {
+                force();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Forces all appended records to the storage device.
+     */
+    void force() throws IOException {
+        syncLock.lock();
+        try {
+            var target = written;
+            channel.force(false);
+            synced = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of records in the log.
+     */
+    synchronized long records() {
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.file;
+
+import org.eclipse.edc.registry.policy.store.PolicyResourceTypeStore;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Contributes a file-backed implementation of the policy resource store, which replaces the in-memory store.
+ */
+public class RegistryPolicyFileExtension implements ServiceExtension {
+
+    @Setting(description = "Directory containing the policy snapshot and write-ahead logs", key = "edc.registry.policy.file.directory")
+    private String directory;
+
+    @Setting(description = "Number of logged writes after which the policy log is compacted into a snapshot", key = "edc.registry.policy.file.compaction.threshold", defaultValue = "10000", min = 1)
+    private long compactionThreshold;
+
+    @Setting(description = "Forces each policy write to the storage device before it is acknowledged", key = "edc.registry.policy.file.sync", defaultValue = "true")
+    private boolean sync;
+
+    @Inject
+    private TypeFactory typeFactory;
+
+    @Inject
+    private TypeManager typeManager;
+
+    private FilePolicyResourceTypeStore store;
+
+    @Override
+    public String name() {
+        return "Policy Registry File";
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        store = new FilePolicyResourceTypeStore(Path.of(directory), typeManager.getMapper(), typeFactory, compactionThreshold, sync, context.getMonitor());
+        try {
+            store.open();
+        } catch (IOException e) {
+            throw new EdcException("Unable to open policy store in " + directory, e);
+        }
+    }
+
+    @Provider
+    public PolicyResourceTypeStore policyResourceTypeStore() {
+        return store;
+    }
+
+    @Override
+    public void shutdown() {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.close();
+        } catch (IOException e) {
+            throw new EdcException("Unable to close policy store", e);
+        }
+    }
+}
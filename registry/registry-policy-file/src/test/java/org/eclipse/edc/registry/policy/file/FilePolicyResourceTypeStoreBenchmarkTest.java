@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactoryImpl;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyVersion;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registry.policy.file.FilePolicyResourceTypeStore.logFile;
+import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyResourceDefinition;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the write throughput of the file-backed policy store with and without forcing each write to the storage
+ * device, for synchronous writes also from concurrent writers sharing forces of the log, and the time to recover the
+ * store from a log and from a compacted snapshot.
+ */
+@NightlyTest
+class FilePolicyResourceTypeStoreBenchmarkTest {
+    private static final int RESOURCES = 100_000;
+    private static final int SYNC_RESOURCES = 2_000;
+    private static final int RESOURCES_PER_GROUP = 100;
+    private static final int WRITERS = 8;
+
+    @TempDir
+    private Path tempDir;
+
+    private TypeFactoryImpl typeFactory;
+    private TypedPolicyVersion version;
+
+    @Test
+    void measure_writeThroughputAndRecovery() throws Exception {
+        var syncDirectory = tempDir.resolve("sync");
+        var syncRate = write(syncDirectory, SYNC_RESOURCES, true, Long.MAX_VALUE);
+        assertThat(syncRate).isPositive();
+
+        var concurrentRate = writeConcurrently(tempDir.resolve("concurrent"), SYNC_RESOURCES * WRITERS);
+        assertThat(concurrentRate).isPositive();
+
+        var logDirectory = tempDir.resolve("log");
+        var rate = write(logDirectory, RESOURCES, false, Long.MAX_VALUE);
+        assertThat(rate).isPositive();
+        assertThat(Files.size(logDirectory.resolve(logFile(0)))).isPositive();
+        assertThat(recover(logDirectory)).isNotNegative();
+
+        var snapshotDirectory = tempDir.resolve("snapshot");
+        write(snapshotDirectory, RESOURCES, false, RESOURCES);
+        assertThat(snapshotDirectory.resolve(logFile(0))).doesNotExist();
+        assertThat(recover(snapshotDirectory)).isNotNegative();
+    }
+
+    @BeforeEach
+    void setUp() {
+        typeFactory = new TypeFactoryImpl();
+        typeFactory.registerResource("policy", TypedPolicyResource.class, TypedPolicyResource::new);
+        version = TypedPolicyVersion.Builder.newInstance()
+                .untyped(new LinkedHashMap<>())
+                .typeFactory(typeFactory)
+                .definition(createPolicyResourceDefinition().getVersionDefinition())
+                .id("1.0")
+                .policyDefinition("x".repeat(256))
+                .build();
+    }
+
+    /**
+     * Creates the resources and returns the write throughput per second.
+     */
+    private double write(Path directory, int resources, boolean sync, long compactionThreshold) throws IOException {
+        try (var store = createStore(directory, sync, compactionThreshold)) {
+            store.open();
+            var start = System.nanoTime();
+            for (var i = 0; i < resources; i++) {
+                assertThat(store.createResource(policy("group" + i / RESOURCES_PER_GROUP, "policy" + i)).succeeded()).isTrue();
+            }
+            return resources / ((System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    /**
+     * Creates the resources from concurrent writers, each writing to its own groups, and returns the write throughput
+     * per second.
+     */
+    private double writeConcurrently(Path directory, int resources) throws Exception {
+        var executor = Executors.newFixedThreadPool(WRITERS);
+        try (var store = createStore(directory, true, Long.MAX_VALUE)) {
+            store.open();
+            var writers = new ArrayList<Callable<Boolean>>();
+            for (var writer = 0; writer < WRITERS; writer++) {
+                var first = writer * (resources / WRITERS);
+                writers.add(() -> {
+                    for (var i = first; i < first + resources / WRITERS; i++) {
+                        if (store.createResource(policy("group" + i / RESOURCES_PER_GROUP, "policy" + i)).failed()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            var start = System.nanoTime();
+            for (var result : executor.invokeAll(writers)) {
+                assertThat(result.get()).isTrue();
+            }
+            return resources / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Opens a store on the directory and returns the recovery time in milliseconds.
+     */
+    private long recover(Path directory) throws IOException {
+        try (var store = createStore(directory, false, Long.MAX_VALUE)) {
+            var start = System.nanoTime();
+            store.open();
+            var elapsed = (System.nanoTime() - start) / 1_000_000;
+            assertThat(store.resourceCount()).isEqualTo(RESOURCES);
+            return elapsed;
+        }
+    }
+
+    private FilePolicyResourceTypeStore createStore(Path directory, boolean sync, long compactionThreshold) {
+        return new FilePolicyResourceTypeStore(directory, new ObjectMapper(), typeFactory, compactionThreshold, sync, mock(Monitor.class));
+    }
+
+    private TypedPolicyResource policy(String groupId, String policyId) {
+        return TypedPolicyResource.Builder.newInstance()
+                .untyped(new LinkedHashMap<>())
+                .typeFactory(typeFactory)
+                .definition(createPolicyResourceDefinition())
+                .id(policyId)
+                .xid("/policygroups/" + groupId + "/policies/" + policyId)
+                .epoch(1)
+                .version("1.0", version)
+                .build();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactoryImpl;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.registry.policy.file.FilePolicyResourceTypeStore.CREATED;
+import static org.eclipse.edc.registry.policy.file.FilePolicyResourceTypeStore.DELETED;
+import static org.eclipse.edc.registry.policy.file.FilePolicyResourceTypeStore.SNAPSHOT_FILE;
+import static org.eclipse.edc.registry.policy.file.FilePolicyResourceTypeStore.logFile;
+import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyResourceDefinition;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNEXPECTED;
+import static org.mockito.Mockito.mock;
+
+class FilePolicyResourceTypeStoreTest {
+    @TempDir
+    private Path directory;
+
+    private TypeFactoryImpl typeFactory;
+    private FilePolicyResourceTypeStore store;
+
+    @Test
+    void verify_writesRecovered() throws IOException {
+        store.createResource(policy("group1", "policy1"));
+        store.createResource(policy("group1", "policy2"));
+        store.createResource(policy("group2", "policy1"));
+        store.updateResource(policy("group1", "policy1").toBuilder().set("labels", Map.of("env", "prod")).build());
+        store.deleteResource("/policygroups/group2/policies/policy1");
+        var modifiedAt = store.fetchGroups(0, 10).iterator().next().getResources().get("policy2").getModifiedAt();
+
+        reopen(100);
+
+        assertThat(store.resourceCount()).isEqualTo(2);
+        var group = store.fetchGroups(0, 10).iterator().next();
+        assertThat(group.getId()).isEqualTo("group1");
+        assertThat(group.getResources().get("policy1").get("labels")).isEqualTo(Map.of("env", "prod"));
+        assertThat(group.getResources().get("policy2").getModifiedAt()).isEqualTo(modifiedAt);
+    }
+
+    @Test
+    void verify_compaction() throws IOException {
+        reopen(3);
+        for (var i = 0; i < 7; i++) {
+            store.createResource(policy("group1", "policy" + i));
+        }
+        store.close();
+
+        assertThat(directory.resolve(SNAPSHOT_FILE)).exists();
+        assertThat(directory.resolve(logFile(0))).doesNotExist();
+
+        reopen(3);
+
+        assertThat(store.resourceCount()).isEqualTo(7);
+        assertThat(store.fetchGroups(0, 10).iterator().next().getResources()).hasSize(7);
+    }
+
+    @Test
+    void verify_logsCoveredBySnapshotDiscarded() throws IOException {
+        reopen(1);
+        store.createResource(policy("group1", "policy1"));
+        store.close();
+        assertThat(directory.resolve(logFile(0))).doesNotExist();
+        try (var log = RecordLog.create(directory.resolve(logFile(0)))) {
+            log.append(CREATED, new ObjectMapper().writeValueAsBytes(policy("group1", "policy2").asMap()));
+        }
+
+        reopen(100);
+
+        assertThat(directory.resolve(logFile(0))).doesNotExist();
+        assertThat(store.fetchGroups(0, 10).iterator().next().getResources()).containsOnlyKeys("policy1");
+    }
+
+    @Test
+    void verify_replayIdempotent() throws IOException {
+        store.createResource(policy("group1", "policy1"));
+        store.updateResource(policy("group1", "policy1").toBuilder().set("labels", Map.of("env", "prod")).build());
+        store.close();
+        var log = directory.resolve(logFile(0));
+        Files.write(log, Files.readAllBytes(log), APPEND);
+        try (var recordLog = new RecordLog(log)) {
+            recordLog.open((type, payload) -> {
+            });
+            recordLog.append(DELETED, "/policygroups/group1/policies/policy2".getBytes(UTF_8));
+        }
+
+        reopen(100);
+
+        assertThat(store.resourceCount()).isEqualTo(1);
+        assertThat(store.fetchGroups(0, 10).iterator().next().getResources().get("policy1").get("labels")).isEqualTo(Map.of("env", "prod"));
+    }
+
+    @Test
+    void verify_unreplayableRecord_failsOpen() throws IOException {
+        store.close();
+        try (var log = RecordLog.create(directory.resolve(logFile(0)))) {
+            log.append((byte) 42, new byte[0]);
+        }
+
+        assertThatThrownBy(() -> reopen(100)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void verify_concurrentSyncedWritesRecovered() throws Exception {
+        store.close();
+        store = new FilePolicyResourceTypeStore(directory, new ObjectMapper(), typeFactory, 100, true, mock(Monitor.class));
+        store.open();
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var writes = new ArrayList<Callable<Boolean>>();
+            for (var i = 0; i < 40; i++) {
+                var policy = policy("group" + i % 8, "policy" + i);
+                writes.add(() -> store.createResource(policy).succeeded());
+            }
+            for (var write : executor.invokeAll(writes)) {
+                assertThat(write.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        reopen(100);
+
+        assertThat(store.resourceCount()).isEqualTo(40);
+    }
+
+    @Test
+    void verify_incompleteRecordDiscarded() throws IOException {
+        store.createResource(policy("group1", "policy1"));
+        store.createResource(policy("group1", "policy2"));
+        store.close();
+        var log = directory.resolve(logFile(0));
+        var valid = Files.size(log);
+        Files.write(log, new byte[]{ 0, 0, 1, 0, 1, 2 }, APPEND);
+
+        reopen(100);
+
+        assertThat(Files.size(log)).isEqualTo(valid);
+        assertThat(store.resourceCount()).isEqualTo(2);
+        assertThat(store.createResource(policy("group1", "policy3")).succeeded()).isTrue();
+
+        reopen(100);
+
+        assertThat(store.resourceCount()).isEqualTo(3);
+    }
+
+    @Test
+    void verify_corruptRecordDiscarded() throws IOException {
+        store.createResource(policy("group1", "policy1"));
+        store.createResource(policy("group1", "policy2"));
+        store.close();
+        var log = directory.resolve(logFile(0));
+        var content = Files.readAllBytes(log);
+        content[content.length - 2] ^= 0x7f;
+        Files.write(log, content);
+
+        reopen(100);
+
+        assertThat(store.fetchGroups(0, 10).iterator().next().getResources()).containsOnlyKeys("policy1");
+    }
+
+    @Test
+    void verify_failedWriteNotLogged() throws IOException {
+        store.createResource(policy("group1", "policy1"));
+        var size = Files.size(directory.resolve(logFile(0)));
+
+        assertThat(store.createResource(policy("group1", "policy1")).failed()).isTrue();
+        assertThat(store.deleteResource("/policygroups/group1/policies/policy2").failed()).isTrue();
+
+        assertThat(Files.size(directory.resolve(logFile(0)))).isEqualTo(size);
+    }
+
+    @Test
+    void verify_closed_unexpected() throws IOException {
+        store.close();
+
+        assertThat(store.createResource(policy("group1", "policy1")).reason()).isEqualTo(UNEXPECTED);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        typeFactory = new TypeFactoryImpl();
+        typeFactory.registerResource("policy", TypedPolicyResource.class, TypedPolicyResource::new);
+        store = createStore(100);
+        store.open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    private void reopen(long compactionThreshold) throws IOException {
+        store.close();
+        store = createStore(compactionThreshold);
+        store.open();
+    }
+
+    private FilePolicyResourceTypeStore createStore(long compactionThreshold) {
+        return new FilePolicyResourceTypeStore(directory, new ObjectMapper(), typeFactory, compactionThreshold, false, mock(Monitor.class));
+    }
+
+    private TypedPolicyResource policy(String groupId, String policyId) {
+        return TypedPolicyResource.Builder.newInstance()
+                .untyped(new LinkedHashMap<>())
+                .typeFactory(typeFactory)
+                .definition(createPolicyResourceDefinition())
+                .id(policyId)
+                .xid("/policygroups/" + groupId + "/policies/" + policyId)
+                .epoch(1)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.junit.extensions.EmbeddedRuntime;
+import org.eclipse.edc.registry.policy.store.PolicyResourceTypeStore;
+import org.eclipse.edc.registry.server.spi.store.RegistryStore;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Boots the policy extensions together with both the in-memory and the file-backed store extensions.
+ */
+class RegistryPolicyFileExtensionTest {
+    @TempDir
+    private Path directory;
+
+    private final RegistryStore registryStore = mock(RegistryStore.class);
+    private EmbeddedRuntime runtime;
+
+    @Test
+    void verify_fileStoreReplacesMemoryStore() {
+        var typeManager = mock(TypeManager.class);
+        when(typeManager.getMapper()).thenReturn(new ObjectMapper());
+        runtime = new EmbeddedRuntime("policy-file", new URL[0])
+                .configurationProvider(() -> ConfigFactory.fromMap(Map.of("edc.registry.policy.file.directory", directory.toString())))
+                .registerServiceMock(RegistryStore.class, registryStore)
+                .registerServiceMock(RegistrySpecification.class, mock(RegistrySpecification.class))
+                .registerServiceMock(TypeFactory.class, mock(TypeFactory.class))
+                .registerServiceMock(TypeManager.class, typeManager);
+
+        runtime.boot(false);
+
+        assertThat(runtime.getService(PolicyResourceTypeStore.class)).isInstanceOf(FilePolicyResourceTypeStore.class);
+        verify(registryStore).register(isA(FilePolicyResourceTypeStore.class));
+        verify(registryStore, times(1)).register(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (runtime != null) {
+            runtime.shutdown();
+        }
+    }
+}
@@ -19,9 +19,6 @@ plugins {
 
 dependencies {
     implementation(project(":registry:registry-spi"))
+    implementation(project(":registry:registry-policy-store"))
     implementation(project(":common:xregistry:xregistry-lib"))
-    implementation(project(":common:xregistry:xregistry-policy"))
-    implementation(project(":registry:registry-spi"))
-    implementation(libs.edc.lib.util)
-    testImplementation(libs.edc.junit)
 }
@@ -14,30 +14,33 @@
 
 package org.eclipse.edc.registry.policy.memory;
 
-import org.eclipse.edc.registry.server.spi.store.RegistryStore;
+import org.eclipse.edc.registry.policy.store.InMemoryPolicyResourceTypeStore;
+import org.eclipse.edc.registry.policy.store.PolicyResourceTypeStore;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
-import org.eclipse.edc.spi.system.ServiceExtensionContext;
-import org.eclipse.edc.util.concurrency.LockManager;
-
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
- * Contributes an in-memory implementation of the policy resource store.
+ * Contributes an in-memory implementation of the policy resource store. It is used unless another extension provides
+ * a policy resource store.
  */
 public class RegistryPolicyMemoryExtension implements ServiceExtension {
 
+    @Setting(description = "Number of locks across which writes to policy groups are striped", key = "edc.registry.policy.memory.lock.stripes", defaultValue = "64", min = 1)
+    private int lockStripes;
+
     @Inject
-    private RegistryStore registryStore;
+    private TypeFactory typeFactory;
 
     @Override
     public String name() {
         return "Policy Registry Memory";
     }
 
-    @Override
-    public void initialize(ServiceExtensionContext context) {
-        var store = new InMemoryPolicyResourceTypeStore(new LockManager(new ReentrantReadWriteLock()));
-        registryStore.register(store);
+    @Provider(isDefault = true)
+    public PolicyResourceTypeStore policyResourceTypeStore() {
+        return new InMemoryPolicyResourceTypeStore(typeFactory, lockStripes);
     }
 }
@@ -0,0 +1,405 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.store;
+
+import org.eclipse.edc.registry.policy.store.SecondaryIndexes.Label;
+import org.eclipse.edc.registry.server.spi.resource.ResourceXid;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedGroup;
+import org.eclipse.edc.registry.xregistry.model.typed.VersionOrder;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyVersion;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.registry.policy.store.PolicyWriteJournal.Operation.CREATE;
+import static org.eclipse.edc.registry.policy.store.PolicyWriteJournal.Operation.DELETE;
+import static org.eclipse.edc.registry.policy.store.PolicyWriteJournal.Operation.UPDATE;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.LABELS;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.MODIFIED_AT;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.VERSIONS;
+import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyGroupDefinition;
+import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyResourceDefinition;
+
+/**
+ * An In-memory store for policy resources.
+ * <p>
+ * Resources are held in concurrent maps keyed by group id, resource id and version id, ordered by id, so reads never
+ * lock. Writes lock the stripe of the resource group, which serializes writes to a group while writes to groups on
+ * different stripes proceed in parallel. Stored resources are copies that are never modified; updates replace them.
+ * <p>
+ * The store maintains secondary indexes on resource and version labels and on the resource modification time. Groups
+ * track their resource count so that pages are located by skipping whole groups.
+ * <p>
+ * Validated writes are passed to a {@link PolicyWriteJournal} before they are applied, holding the lock of the group,
+ * which allows a durable store to log writes ahead of serving them.
+ */
+public class InMemoryPolicyResourceTypeStore implements PolicyResourceTypeStore {
+    public static final int DEFAULT_LOCK_STRIPES = 64;
+
+    private final StripedLocks locks;
+    private final TypeFactory typeFactory;
+    private final PolicyWriteJournal journal;
+    private final GroupDefinition groupDefinition;
+    private final ResourceDefinition resourceDefinition;
+
+    private final ConcurrentSkipListMap<String, GroupEntry> groups = new ConcurrentSkipListMap<>();
+    private final SecondaryIndexes indexes = new SecondaryIndexes();
+    private final AtomicInteger resourceCount = new AtomicInteger();
+    private final AtomicLong revision = new AtomicLong();
+
+    public InMemoryPolicyResourceTypeStore(TypeFactory typeFactory) {
+        this(typeFactory, DEFAULT_LOCK_STRIPES);
+    }
+
+    public InMemoryPolicyResourceTypeStore(TypeFactory typeFactory, int lockStripes) {
+        this(typeFactory, lockStripes, PolicyWriteJournal.NONE);
+    }
+
+    public InMemoryPolicyResourceTypeStore(TypeFactory typeFactory, int lockStripes, PolicyWriteJournal journal) {
+        this.typeFactory = typeFactory;
+        this.journal = requireNonNull(journal, "journal");
+        locks = new StripedLocks(lockStripes);
+        groupDefinition = createPolicyGroupDefinition();
+        resourceDefinition = createPolicyResourceDefinition();
+    }
+
+    @Override
+    public Class<TypedPolicyResource> getType() {
+        return TypedPolicyResource.class;
+    }
+
+    @Override
+    public @NotNull Collection<TypedGroup> fetchGroups(int offset, int maxResults) {
+        var result = new ArrayList<TypedGroup>();
+        var skip = offset;
+        var remaining = maxResults;
+        for (var entry : groups.entrySet()) {
+            if (remaining <= 0) {
+                break;
+            }
+            var group = entry.getValue();
+            if (skip >= group.count) {
+                skip -= group.count;
+                continue;
+            }
+            var typedGroup = createGroup(entry.getKey());
+            var included = 0;
+            for (var resource : group.resources.values()) {
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                if (remaining == 0) {
+                    break;
+                }
+                typedGroup.resource(typed(resource));
+                remaining--;
+                included++;
+            }
+            if (included > 0) {
+                result.add(typedGroup.build());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int resourceCount() {
+        return resourceCount.get();
+    }
+
+    @Override
+    public long revision() {
+        return revision.get();
+    }
+
+    /**
+     * Returns the resource, or null if it does not exist.
+     */
+    @Nullable
+    public TypedPolicyResource getResource(String groupId, String resourceId) {
+        var resource = find(groupId, resourceId);
+        return resource == null ? null : typed(resource);
+    }
+
+    /**
+     * Returns a version of a resource, or null if it does not exist.
+     */
+    @Nullable
+    public TypedPolicyVersion getVersion(String groupId, String resourceId, String versionId) {
+        var resource = find(groupId, resourceId);
+        var version = resource == null ? null : resource.versions().get(versionId);
+        if (version == null) {
+            return null;
+        }
+        return TypedPolicyVersion.Builder.newInstance()
+                .untyped(version)
+                .definition(resourceDefinition.getVersionDefinition())
+                .typeFactory(typeFactory)
+                .build();
+    }
+
+    /**
+     * Returns the resources with the label set on the resource or one of its versions, ordered by xid.
+     */
+    public List<TypedPolicyResource> findByLabel(String name, String value) {
+        return resolve(indexes.withLabel(name, value).stream().sorted().toList());
+    }
+
+    /**
+     * Returns the resources modified at or after the time, ordered by modification time.
+     */
+    public List<TypedPolicyResource> findModifiedSince(Instant since) {
+        return resolve(indexes.modifiedSince(since));
+    }
+
+    @Override
+    public ServiceResult<Void> createResource(TypedPolicyResource resource) {
+        var xid = parse(resource.getXid());
+        if (xid == null || !xid.resourceId().equals(resource.getId())) {
+            return invalidXid(resource);
+        }
+        ResourceEntry entry;
+        try {
+            entry = createEntry(xid, resource);
+        } catch (IllegalArgumentException e) {
+            return ServiceResult.badRequest(e.getMessage());
+        }
+        return locks.withLock(xid.groupId(), () -> {
+            if (find(xid.groupId(), xid.resourceId()) != null) {
+                return ServiceResult.conflict("Resource exists: " + xid);
+            }
+            var journaled = journal.record(CREATE, entry.xid(), entry.untyped());
+            if (journaled.failed()) {
+                return journaled;
+            }
+            var group = groups.computeIfAbsent(xid.groupId(), id -> new GroupEntry());
+            group.resources.put(xid.resourceId(), entry);
+            group.count++;
+            indexes.add(entry.xid(), entry.labels(), entry.modifiedAt());
+            resourceCount.incrementAndGet();
+            revision.incrementAndGet();
+            return ServiceResult.success();
+        });
+    }
+
+    @Override
+    public ServiceResult<Void> updateResource(TypedPolicyResource resource) {
+        var xid = parse(resource.getXid());
+        if (xid == null || !xid.resourceId().equals(resource.getId())) {
+            return invalidXid(resource);
+        }
+        ResourceEntry entry;
+        try {
+            entry = createEntry(xid, resource);
+        } catch (IllegalArgumentException e) {
+            return ServiceResult.badRequest(e.getMessage());
+        }
+        return locks.withLock(xid.groupId(), () -> {
+            var group = groups.get(xid.groupId());
+            var previous = group == null ? null : group.resources.get(xid.resourceId());
+            if (previous == null) {
+                return ServiceResult.notFound("Resource not found: " + xid);
+            }
+            var journaled = journal.record(UPDATE, entry.xid(), entry.untyped());
+            if (journaled.failed()) {
+                return journaled;
+            }
+            group.resources.put(xid.resourceId(), entry);
+            indexes.remove(previous.xid(), previous.labels(), previous.modifiedAt());
+            indexes.add(entry.xid(), entry.labels(), entry.modifiedAt());
+            revision.incrementAndGet();
+            return ServiceResult.success();
+        });
+    }
+
+    @Override
+    public ServiceResult<Void> deleteResource(String id) {
+        var xid = parse(id);
+        if (xid == null) {
+            return ServiceResult.notFound("Resource not found: " + id);
+        }
+        return locks.withLock(xid.groupId(), () -> {
+            var group = groups.get(xid.groupId());
+            var previous = group == null ? null : group.resources.get(xid.resourceId());
+            if (previous == null) {
+                return ServiceResult.notFound("Resource not found: " + xid);
+            }
+            var journaled = journal.record(DELETE, previous.xid(), null);
+            if (journaled.failed()) {
+                return journaled;
+            }
+            group.resources.remove(xid.resourceId());
+            if (--group.count == 0) {
+                groups.remove(xid.groupId());
+            }
+            indexes.remove(previous.xid(), previous.labels(), previous.modifiedAt());
+            resourceCount.decrementAndGet();
+            revision.incrementAndGet();
+            return ServiceResult.success();
+        });
+    }
+
+    /**
+     * Performs the action while no write is in progress. Writes wait until the action completes.
+     */
+    public <T> T quiesce(Supplier<T> action) {
+        return locks.withAllLocks(action);
+    }
+
+    /**
+     * Parses the xid, returning null if it does not address a resource managed by this store.
+     */
+    @Nullable
+    private ResourceXid parse(String value) {
+        var xid = ResourceXid.parse(value);
+        if (xid == null || !groupDefinition.getPlural().equals(xid.groupsName()) || !resourceDefinition.getPlural().equals(xid.resourcesName())) {
+            return null;
+        }
+        return xid;
+    }
+
+    private ServiceResult<Void> invalidXid(TypedPolicyResource resource) {
+        return ServiceResult.badRequest("Invalid policy resource xid: " + resource.getXid());
+    }
+
+    @Nullable
+    private ResourceEntry find(String groupId, String resourceId) {
+        var group = groups.get(groupId);
+        return group == null ? null : group.resources.get(resourceId);
+    }
+
+    private List<TypedPolicyResource> resolve(List<String> xids) {
+        var resources = new ArrayList<TypedPolicyResource>(xids.size());
+        for (var value : xids) {
+            var xid = ResourceXid.parse(value);
+            var resource = xid == null ? null : find(xid.groupId(), xid.resourceId());
+            if (resource != null) {
+                resources.add(typed(resource));
+            }
+        }
+        return resources;
+    }
+
+    private TypedPolicyResource typed(ResourceEntry entry) {
+        return new TypedPolicyResource(entry.untyped(), resourceDefinition, typeFactory);
+    }
+
+    private TypedGroup.Builder createGroup(String groupId) {
+        return TypedGroup.Builder.newInstance()
+                .untyped(new LinkedHashMap<>())
+                .typeFactory(typeFactory)
+                .definition(groupDefinition)
+                .id(groupId)
+                .xid("/" + groupDefinition.getPlural() + "/" + groupId);
+    }
+
+    /**
+     * Copies the resource into an entry. The modification time defaults to the current time if not set.
+     *
+     * @throws IllegalArgumentException if the modification time is invalid
+     */
+    @SuppressWarnings("unchecked")
+    private ResourceEntry createEntry(ResourceXid xid, TypedPolicyResource resource) {
+        var untyped = new LinkedHashMap<String, Object>();
+        var versions = new ConcurrentSkipListMap<String, Map<String, Object>>(VersionOrder.COMPARATOR);
+        var labels = new HashSet<Label>();
+        resource.asMap().forEach((key, value) -> {
+            if (VERSIONS.equals(key) && value instanceof Map<?, ?> untypedVersions) {
+                untypedVersions.forEach((versionId, version) -> {
+                    var copy = (Map<String, Object>) copy(version);
+                    versions.put((String) versionId, unmodifiableMap(copy));
+                    collectLabels(copy, labels);
+                });
+            } else {
+                untyped.put(key, copy(value));
+            }
+        });
+        if (!versions.isEmpty()) {
+            untyped.put(VERSIONS, unmodifiableMap(versions));
+        }
+        collectLabels(untyped, labels);
+        var modifiedAt = resource.getModifiedAt();
+        if (modifiedAt == null) {
+            modifiedAt = Instant.now();
+            untyped.put(MODIFIED_AT, modifiedAt.toString());
+        }
+        return new ResourceEntry(xid.toString(), unmodifiableMap(untyped), versions, Set.copyOf(labels), modifiedAt);
+    }
+
+    private static void collectLabels(Map<String, Object> untyped, Set<Label> labels) {
+        if (untyped.get(LABELS) instanceof Map<?, ?> values) {
+            values.forEach((name, value) -> labels.add(new Label(name.toString(), String.valueOf(value))));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T copy(T value) {
+        if (value instanceof Map<?, ?> map) {
+            var copy = new LinkedHashMap<String, Object>();
+            map.forEach((key, entry) -> copy.put((String) key, copy(entry)));
+            return (T) copy;
+        }
+        if (value instanceof List<?> list) {
+            var copy = new ArrayList<>(list.size());
+            list.forEach(entry -> copy.add(copy(entry)));
+            return (T) copy;
+        }
+        return value;
+    }
+
+    /**
+     * The resources of a group. The count is only modified while holding the lock of the group.
+     */
+    private static class GroupEntry {
+        private final ConcurrentSkipListMap<String, ResourceEntry> resources = new ConcurrentSkipListMap<>();
+        private volatile int count;
+    }
+
+    /**
+     * A stored resource.
+     *
+     * @param xid        the resource xid
+     * @param untyped    the resource attributes including its versions
+     * @param versions   the versions by id
+     * @param labels     the labels of the resource and its versions
+     * @param modifiedAt the modification time of the resource
+     */
+    private record ResourceEntry(String xid,
+                                 Map<String, Object> untyped,
+                                 ConcurrentSkipListMap<String, Map<String, Object>> versions,
+                                 Set<Label> labels,
+                                 Instant modifiedAt) {
+    }
+}
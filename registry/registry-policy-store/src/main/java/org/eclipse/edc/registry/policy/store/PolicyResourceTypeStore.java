@@ -0,0 +1,25 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.store;
+
+import org.eclipse.edc.registry.server.spi.resource.ResourceTypeStore;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
+
+/**
+ * Stores policy resources. The runtime registers the store contributed by the configured storage extension with the
+ * registry.
+ */
+public interface PolicyResourceTypeStore extends ResourceTypeStore<TypedPolicyResource> {
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.store;
+
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Records writes to an {@link InMemoryPolicyResourceTypeStore} before they are applied.
+ */
+@FunctionalInterface
+public interface PolicyWriteJournal {
+
+    /**
+     * A journal that records nothing.
+     */
+    PolicyWriteJournal NONE = (operation, xid, resource) -> ServiceResult.success();
+
+    /**
+     * Records a write. The journal is invoked after the write has been validated, holding the lock of the resource
+     * group, and the write is applied only if the result succeeds.
+     *
+     * @param operation the write operation
+     * @param xid       the xid of the resource
+     * @param resource  the resource as it will be stored, or null if it is deleted
+     */
+    ServiceResult<Void> record(Operation operation, String xid, @Nullable Map<String, Object> resource);
+
+    /**
+     * The journaled write operations.
+     */
+    enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+}
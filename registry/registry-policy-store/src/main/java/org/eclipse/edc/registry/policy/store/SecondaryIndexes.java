@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.store;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Secondary indexes mapping labels and modification times to resource xids.
+ * <p>
+ * Entries are added and removed by writers holding the lock of the resource group; lookups do not lock. Each update of
+ * an index is atomic, so lookups observe every resource either before or after a concurrent write.
+ */
+final class SecondaryIndexes {
+    private final Map<Label, Set<String>> labels = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Modification> modifications = new ConcurrentSkipListSet<>(comparing(Modification::modifiedAt).thenComparing(Modification::xid));
+
+    /**
+     * Indexes a resource.
+     */
+    void add(String xid, Collection<Label> resourceLabels, Instant modifiedAt) {
+        for (var label : resourceLabels) {
+            labels.compute(label, (key, xids) -> {
+                var updated = xids == null ? ConcurrentHashMap.<String>newKeySet() : xids;
+                updated.add(xid);
+                return updated;
+            });
+        }
+        modifications.add(new Modification(modifiedAt, xid));
+    }
+
+    /**
+     * Removes a resource indexed with the labels and modification time.
+     */
+    void remove(String xid, Collection<Label> resourceLabels, Instant modifiedAt) {
+        for (var label : resourceLabels) {
+            labels.computeIfPresent(label, (key, xids) -> {
+                xids.remove(xid);
+                return xids.isEmpty() ? null : xids;
+            });
+        }
+        modifications.remove(new Modification(modifiedAt, xid));
+    }
+
+    /**
+     * Returns the xids of the resources with the label.
+     */
+    Set<String> withLabel(String name, String value) {
+        var xids = labels.get(new Label(name, value));
+        return xids == null ? Set.of() : Set.copyOf(xids);
+    }
+
+    /**
+     * Returns the xids of the resources modified at or after the time, ordered by modification time.
+     */
+    List<String> modifiedSince(Instant since) {
+        var xids = new ArrayList<String>();
+        for (var modification : modifications.tailSet(new Modification(since, ""))) {
+            xids.add(modification.xid());
+        }
+        return xids;
+    }
+
+    /**
+     * A label name and value.
+     */
+    record Label(String name, String value) {
+    }
+
+    private record Modification(Instant modifiedAt, String xid) {
+    }
+}
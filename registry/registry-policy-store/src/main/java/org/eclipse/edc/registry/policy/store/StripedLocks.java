@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.store;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A fixed set of locks selected by key hash. Operations on keys mapped to different stripes do not contend.
+ */
+final class StripedLocks {
+    private final ReentrantLock[] locks;
+
+    /**
+     * Creates the locks. The number of stripes is rounded up to a power of two.
+     */
+    StripedLocks(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripes must be positive: " + stripes);
+        }
+        var size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        locks = new ReentrantLock[size];
+        for (var i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Performs the action holding the lock for the key.
+     */
+    <T> T withLock(String key, Supplier<T> action) {
+        var lock = lockFor(key);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Performs the action holding all locks. Locks are acquired in stripe order.
+     */
+    <T> T withAllLocks(Supplier<T> action) {
+        var acquired = 0;
+        try {
+            for (var lock : locks) {
+                lock.lock();
+                acquired++;
+            }
+            return action.get();
+        } finally {
+            for (var i = acquired - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    int size() {
+        return locks.length;
+    }
+
+    ReentrantLock lockFor(String key) {
+        var hash = key.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+    }
+}
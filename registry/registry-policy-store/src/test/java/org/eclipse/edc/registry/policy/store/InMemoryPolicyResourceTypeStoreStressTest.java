@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.store;
+
+import org.eclipse.edc.junit.annotations.NightlyTest;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactoryImpl;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyResourceDefinition;
+
+/**
+ * Measures write throughput of the in-memory policy store by thread count, with writers updating distinct groups
+ * while a reader pages through the store. Throughput with a single lock stripe, which serializes all writes, is
+ * reported for comparison.
+ */
+@NightlyTest
+class InMemoryPolicyResourceTypeStoreStressTest {
+    private static final int RESOURCES_PER_THREAD = 20_000;
+    private static final int WRITES_PER_THREAD = RESOURCES_PER_THREAD * 2 + RESOURCES_PER_THREAD / 2;
+    private static final int[] THREADS = { 1, 2, 4, 8 };
+
+    private TypeFactoryImpl typeFactory;
+
+    @Test
+    void measure_writeThroughput() throws Exception {
+        run(new InMemoryPolicyResourceTypeStore(typeFactory), 1); // warm up
+        for (var threads : THREADS) {
+            var striped = run(new InMemoryPolicyResourceTypeStore(typeFactory), threads);
+            var global = run(new InMemoryPolicyResourceTypeStore(typeFactory, 1), threads);
+            assertThat(striped).isPositive();
+            assertThat(global).isPositive();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        typeFactory = new TypeFactoryImpl();
+        typeFactory.registerResource("policy", TypedPolicyResource.class, TypedPolicyResource::new);
+    }
+
+    /**
+     * Runs the writers and returns the write throughput per second. Each writer creates, updates and deletes resources
+     * in its own group.
+     */
+    private double run(InMemoryPolicyResourceTypeStore store, int threads) throws Exception {
+        var executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            var done = new AtomicBoolean();
+            var reads = new AtomicLong();
+            var reader = executor.submit(() -> {
+                while (!done.get()) {
+                    store.fetchGroups(0, 100);
+                    reads.incrementAndGet();
+                }
+            });
+            var writers = new ArrayList<Callable<Void>>();
+            for (var t = 0; t < threads; t++) {
+                var groupId = "group" + t;
+                writers.add(() -> {
+                    write(store, groupId);
+                    return null;
+                });
+            }
+            var start = System.nanoTime();
+            for (var future : executor.invokeAll(writers)) {
+                future.get();
+            }
+            var elapsed = System.nanoTime() - start;
+            done.set(true);
+            reader.get();
+
+            assertThat(store.resourceCount()).isEqualTo(threads * RESOURCES_PER_THREAD / 2);
+            assertThat(store.revision()).isEqualTo((long) threads * WRITES_PER_THREAD);
+            assertThat(reads.get()).isPositive();
+            return threads * WRITES_PER_THREAD / (elapsed / 1e9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates and updates the resources of the group, then deletes every second one.
+     */
+    private void write(InMemoryPolicyResourceTypeStore store, String groupId) {
+        for (var i = 0; i < RESOURCES_PER_THREAD; i++) {
+            var resource = policy(groupId, "policy" + i);
+            assertThat(store.createResource(resource).succeeded()).isTrue();
+            assertThat(store.updateResource(resource).succeeded()).isTrue();
+        }
+        for (var i = 0; i < RESOURCES_PER_THREAD; i += 2) {
+            assertThat(store.deleteResource("/policygroups/" + groupId + "/policies/policy" + i).succeeded()).isTrue();
+        }
+    }
+
+    private TypedPolicyResource policy(String groupId, String policyId) {
+        return TypedPolicyResource.Builder.newInstance()
+                .untyped(new LinkedHashMap<>())
+                .typeFactory(typeFactory)
+                .definition(createPolicyResourceDefinition())
+                .id(policyId)
+                .xid("/policygroups/" + groupId + "/policies/" + policyId)
+                .epoch(1)
+                .build();
+    }
+}
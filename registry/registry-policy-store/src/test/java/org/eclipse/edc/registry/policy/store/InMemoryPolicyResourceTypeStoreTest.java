@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.policy.store;
+
+import org.eclipse.edc.registry.xregistry.model.typed.AbstractType;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactoryImpl;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedGroup;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
+import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyVersion;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyResourceDefinition;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNEXPECTED;
+
+class InMemoryPolicyResourceTypeStoreTest {
+    private TypeFactoryImpl typeFactory;
+    private InMemoryPolicyResourceTypeStore store;
+
+    @Test
+    void verify_createAndFetch() {
+        assertThat(store.createResource(policy("group1", "policy1")).succeeded()).isTrue();
+        assertThat(store.createResource(policy("group1", "policy2")).succeeded()).isTrue();
+        assertThat(store.createResource(policy("group2", "policy1")).succeeded()).isTrue();
+
+        var groups = store.fetchGroups(0, Integer.MAX_VALUE);
+
+        assertThat(store.resourceCount()).isEqualTo(3);
+        assertThat(groups).extracting(AbstractType::getId).containsExactly("group1", "group2");
+        assertThat(groups.iterator().next().getResources()).containsOnlyKeys("policy1", "policy2");
+        assertThat(groups.iterator().next().getXid()).isEqualTo("/policygroups/group1");
+    }
+
+    @Test
+    void verify_createExisting_conflict() {
+        store.createResource(policy("group1", "policy1"));
+
+        var result = store.createResource(policy("group1", "policy1"));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(CONFLICT);
+        assertThat(store.resourceCount()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_invalidXid_badRequest() {
+        var resource = TypedPolicyResource.Builder.newInstance()
+                .untyped(new LinkedHashMap<>())
+                .typeFactory(typeFactory)
+                .definition(createPolicyResourceDefinition())
+                .id("policy1")
+                .xid("/othergroups/group1/policies/policy1")
+                .build();
+
+        assertThat(store.createResource(resource).reason()).isEqualTo(BAD_REQUEST);
+        assertThat(store.updateResource(resource).reason()).isEqualTo(BAD_REQUEST);
+    }
+
+    @Test
+    void verify_update() {
+        store.createResource(policy("group1", "policy1"));
+        var revision = store.revision();
+
+        var updated = policy("group1", "policy1");
+        updated.toBuilder().set("schemauri", "/schemas/updated").build();
+
+        assertThat(store.updateResource(updated).succeeded()).isTrue();
+        assertThat(store.revision()).isGreaterThan(revision);
+        assertThat(resource(store.fetchGroups(0, 10).iterator().next(), "policy1").get("schemauri")).isEqualTo("/schemas/updated");
+        assertThat(store.updateResource(policy("group1", "policy2")).reason()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    void verify_storedResourceIsCopied() {
+        var resource = policy("group1", "policy1");
+        store.createResource(resource);
+
+        resource.toBuilder().set("schemauri", "/schemas/changed").build();
+
+        assertThat(resource(store.fetchGroups(0, 10).iterator().next(), "policy1").get("schemauri")).isNull();
+    }
+
+    @Test
+    void verify_delete() {
+        store.createResource(policy("group1", "policy1"));
+        store.createResource(policy("group2", "policy1"));
+
+        assertThat(store.deleteResource("/policygroups/group1/policies/policy1").succeeded()).isTrue();
+
+        assertThat(store.resourceCount()).isEqualTo(1);
+        assertThat(store.fetchGroups(0, 10)).extracting(AbstractType::getId).containsExactly("group2");
+        assertThat(store.deleteResource("/policygroups/group1/policies/policy1").reason()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    void verify_pagination() {
+        for (var g = 1; g <= 3; g++) {
+            for (var p = 1; p <= 3; p++) {
+                store.createResource(policy("group" + g, "policy" + p));
+            }
+        }
+
+        var page = store.fetchGroups(2, 4);
+
+        assertThat(page).extracting(AbstractType::getId).containsExactly("group1", "group2");
+        var groups = page.toArray(TypedGroup[]::new);
+        assertThat(groups[0].getResources()).containsOnlyKeys("policy3");
+        assertThat(groups[1].getResources()).containsOnlyKeys("policy1", "policy2", "policy3");
+        assertThat(store.fetchGroups(9, 10)).isEmpty();
+    }
+
+    @Test
+    void verify_versionLookup() {
+        var version = TypedPolicyVersion.Builder.newInstance()
+                .untyped(new LinkedHashMap<>())
+                .typeFactory(typeFactory)
+                .definition(createPolicyResourceDefinition().getVersionDefinition())
+                .id("1.0")
+                .policyDefinition("{}")
+                .build();
+        store.createResource(policy("group1", "policy1").toBuilder().version("1.0", version).build());
+
+        assertThat(store.getVersion("group1", "policy1", "1.0")).isNotNull()
+                .extracting(TypedPolicyVersion::getPolicyDefinition).isEqualTo("{}");
+        assertThat(store.getVersion("group1", "policy1", "2.0")).isNull();
+        assertThat(store.getResource("group1", "policy1").getVersions()).containsOnlyKeys("1.0");
+        assertThat(store.getResource("group1", "policy2")).isNull();
+    }
+
+    @Test
+    void verify_labelIndex() {
+        store.createResource(policy("group1", "policy1").toBuilder().set("labels", Map.of("env", "prod")).build());
+        store.createResource(policy("group2", "policy1").toBuilder().set("labels", Map.of("env", "prod")).build());
+        store.createResource(policy("group2", "policy2").toBuilder().set("labels", Map.of("env", "dev")).build());
+
+        assertThat(store.findByLabel("env", "prod")).extracting(AbstractType::getXid)
+                .containsExactly("/policygroups/group1/policies/policy1", "/policygroups/group2/policies/policy1");
+
+        store.updateResource(policy("group1", "policy1").toBuilder().set("labels", Map.of("env", "dev")).build());
+        store.deleteResource("/policygroups/group2/policies/policy1");
+
+        assertThat(store.findByLabel("env", "prod")).isEmpty();
+        assertThat(store.findByLabel("env", "dev")).extracting(AbstractType::getXid)
+                .containsExactly("/policygroups/group1/policies/policy1", "/policygroups/group2/policies/policy2");
+    }
+
+    @Test
+    void verify_modifiedIndex() {
+        var now = Instant.parse("2025-01-01T00:00:00Z");
+        store.createResource(policy("group1", "policy1").toBuilder().modifiedAt(now.plusSeconds(20)).build());
+        store.createResource(policy("group1", "policy2").toBuilder().modifiedAt(now).build());
+        store.createResource(policy("group2", "policy1").toBuilder().modifiedAt(now.plusSeconds(10)).build());
+
+        assertThat(store.findModifiedSince(now.plusSeconds(5))).extracting(AbstractType::getXid)
+                .containsExactly("/policygroups/group2/policies/policy1", "/policygroups/group1/policies/policy1");
+
+        store.updateResource(policy("group1", "policy1").toBuilder().modifiedAt(now.plusSeconds(1)).build());
+
+        assertThat(store.findModifiedSince(now.plusSeconds(5))).extracting(AbstractType::getXid)
+                .containsExactly("/policygroups/group2/policies/policy1");
+    }
+
+    @Test
+    void verify_modifiedAtDefaulted() {
+        store.createResource(policy("group1", "policy1"));
+
+        assertThat(store.getResource("group1", "policy1").getModifiedAt()).isNotNull();
+        assertThat(store.createResource(policy("group1", "policy2").toBuilder().set("modifiedat", "invalid").build()).reason())
+                .isEqualTo(BAD_REQUEST);
+    }
+
+    @Test
+    void verify_journaledBeforeApplied() {
+        var journaled = new ArrayList<String>();
+        store = new InMemoryPolicyResourceTypeStore(typeFactory, 4, (operation, xid, resource) -> {
+            assertThat(store.revision()).isEqualTo(journaled.size());
+            journaled.add(operation + " " + xid + " " + (resource == null ? null : resource.get("modifiedat")));
+            return ServiceResult.success();
+        });
+
+        store.createResource(policy("group1", "policy1"));
+        var modifiedAt = store.getResource("group1", "policy1").getModifiedAt();
+        store.createResource(policy("group1", "policy1"));
+        store.deleteResource("/policygroups/group1/policies/policy1");
+
+        assertThat(journaled).containsExactly("CREATE /policygroups/group1/policies/policy1 " + modifiedAt, "DELETE /policygroups/group1/policies/policy1 null");
+    }
+
+    @Test
+    void verify_journalFailure_notApplied() {
+        var failing = new InMemoryPolicyResourceTypeStore(typeFactory, 4, (operation, xid, resource) -> ServiceResult.unexpected("log failure"));
+
+        assertThat(failing.createResource(policy("group1", "policy1")).reason()).isEqualTo(UNEXPECTED);
+        assertThat(failing.resourceCount()).isZero();
+        assertThat(failing.fetchGroups(0, 10)).isEmpty();
+        assertThat(failing.revision()).isZero();
+    }
+
+    @BeforeEach
+    void setUp() {
+        typeFactory = new TypeFactoryImpl();
+        typeFactory.registerResource("policy", TypedPolicyResource.class, TypedPolicyResource::new);
+        store = new InMemoryPolicyResourceTypeStore(typeFactory);
+    }
+
+    private TypedPolicyResource policy(String groupId, String policyId) {
+        return TypedPolicyResource.Builder.newInstance()
+                .untyped(new LinkedHashMap<>())
+                .typeFactory(typeFactory)
+                .definition(createPolicyResourceDefinition())
+                .id(policyId)
+                .xid("/policygroups/" + groupId + "/policies/" + policyId)
+                .epoch(1)
+                .build();
+    }
+
+    private TypedPolicyResource resource(TypedGroup group, String id) {
+        return (TypedPolicyResource) group.getResources().get(id);
+    }
+}
@@ -21,6 +21,6 @@ dependencies {
     implementation(project(":registry:registry-spi"))
     implementation(project(":common:xregistry:xregistry-lib"))
     implementation(project(":common:xregistry:xregistry-policy"))
-    implementation(project(":registry:registry-spi"))
+    implementation(project(":registry:registry-policy-store"))
     testImplementation(libs.edc.junit)
 }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.registry.policy;
 
+import org.eclipse.edc.registry.policy.store.PolicyResourceTypeStore;
+import org.eclipse.edc.registry.server.spi.store.RegistryStore;
 import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
 import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
 import org.eclipse.edc.registry.xregistry.policy.model.typed.TypedPolicyResource;
@@ -24,7 +26,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import static org.eclipse.edc.registry.xregistry.policy.model.definition.RegistryPolicyDefinitions.createPolicyGroupDefinition;
 
 /**
- * Contributes base policy extensions.
+ * Contributes base policy extensions and registers the policy resource store with the registry.
  */
 public class RegistryPolicyExtension implements ServiceExtension {
 
@@ -34,6 +36,12 @@ public class RegistryPolicyExtension implements ServiceExtension {
     @Inject
     private TypeFactory typeFactory;
 
+    @Inject
+    private RegistryStore registryStore;
+
+    @Inject
+    private PolicyResourceTypeStore policyStore;
+
     @Override
     public String name() {
         return "Policy Registry";
@@ -42,6 +50,7 @@ public class RegistryPolicyExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         specification.registerGroup(createPolicyGroupDefinition());
-        typeFactory.registerResource("policy", TypedPolicyResource::new);
+        typeFactory.registerResource("policy", TypedPolicyResource.class, TypedPolicyResource::new);
+        registryStore.register(policyStore);
     }
 }
@@ -25,6 +25,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.web.spi.WebService;
 
 /**
@@ -42,7 +43,11 @@ public class RegistryServerExtension implements ServiceExtension {
     @Inject
     private RegistryStore registryStore;
 
+    @Inject
+    private TypeManager typeManager;
+
     private RegistrySpecification specification;
+    private TypeFactory typeFactory;
 
     @Override
     public String name() {
@@ -56,12 +61,15 @@ public class RegistryServerExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public RegistryStore defaultRegistryStore() {
-        return new DefaultRegistryStore(getSpecification());
+        return new DefaultRegistryStore(getSpecification(), typeFactory(), typeManager.getMapper());
     }
 
     @Provider
     public TypeFactory typeFactory() {
-        return new TypeFactoryImpl();
+        if (typeFactory == null) {
+            typeFactory = new TypeFactoryImpl();
+        }
+        return typeFactory;
     }
 
     @Provider
@@ -16,11 +16,23 @@ package org.eclipse.edc.registry.server.api;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import org.eclipse.edc.registry.server.spi.store.RegistryStore;
+import org.eclipse.edc.registry.server.spi.store.RegistryVersion;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.eclipse.edc.web.spi.exception.ObjectConflictException;
 
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static jakarta.ws.rs.core.HttpHeaders.VARY;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.Response.ok;
 import static java.lang.Integer.MAX_VALUE;
@@ -32,15 +44,112 @@ import static java.lang.Integer.MAX_VALUE;
 @Produces(APPLICATION_JSON)
 @Path("/registry")
 public class XregistryApiController implements XregistryApi {
+    public static final String OFFSET_PARAM = "offset";
+    public static final String LIMIT_PARAM = "limit";
+    public static final String VERSION_PARAM = "version";
+    private static final String NEXT = "next";
+    private static final String GZIP = "gzip";
+    private static final String GZIP_TAG_SUFFIX = "-gzip";
+
     private RegistryStore registryStore;
 
     public XregistryApiController(RegistryStore registryStore) {
         this.registryStore = registryStore;
     }
 
+    /**
+     * Returns the registry. If a limit is specified, the response is paginated and a {@code Link} header with a
+     * {@code next} relation is returned when more resources are available.
+     * <p>
+     * The {@code next} link carries the version of the registry the page was read from. If the registry has been
+     * modified when a page is requested with a version, {@code 409 Conflict} is returned, since the pages would not
+     * form a consistent view of the registry. Clients restart paging from the first page.
+     * <p>
+     * Responses are tagged with an {@code ETag} derived from the registry epoch and modification time. If the tag sent
+     * in an {@code If-None-Match} header is current, {@code 304 Not Modified} is returned without reading the registry.
+     * <p>
+     * The registry is served as rendered by the store. If the client accepts gzip, the gzip encoded document is returned.
+     * Since the representations differ, the gzip encoded document carries its own entity tag.
+     */
     @GET
-    public Response getRegistry() {
-        return ok(registryStore.fetch(0, MAX_VALUE)).build();
+    public Response getRegistry(@QueryParam(OFFSET_PARAM) Integer offset,
+                                @QueryParam(LIMIT_PARAM) Integer limit,
+                                @QueryParam(VERSION_PARAM) String version,
+                                @HeaderParam(ACCEPT_ENCODING) String acceptEncoding,
+                                @Context UriInfo uriInfo,
+                                @Context Request request) {
+        var start = offset == null ? 0 : offset;
+        var maxResults = limit == null ? MAX_VALUE : limit;
+        if (start < 0) {
+            throw new InvalidRequestException("Offset must not be negative: " + start);
+        } else if (maxResults < 1) {
+            throw new InvalidRequestException("Limit must be greater than zero: " + maxResults);
+        }
+        var gzip = acceptsGzip(acceptEncoding);
+        var current = registryStore.version();
+        var notModified = request.evaluatePreconditions(entityTag(current, gzip));
+        if (notModified != null) {
+            return notModified.header(VARY, ACCEPT_ENCODING).build();
+        }
+        checkVersion(version, current);
+        var page = registryStore.render(start, maxResults);
+        checkVersion(version, page.version());
+        var response = gzip ? ok(page.gzipped()).header(CONTENT_ENCODING, GZIP) : ok(page.json());
+        response.header(VARY, ACCEPT_ENCODING).tag(entityTag(page.version(), gzip));
+        if (page.hasMore()) {
+            var next = uriInfo.getRequestUriBuilder()
+                    .replaceQueryParam(OFFSET_PARAM, start + maxResults)
+                    .replaceQueryParam(LIMIT_PARAM, maxResults)
+                    .replaceQueryParam(VERSION_PARAM, page.version().entityTag())
+                    .build();
+            response.link(next, NEXT);
+        }
+        return response.build();
+    }
+
+    /**
+     * Fails with a conflict if a version was requested and the registry is at a different version. The version is
+     * checked before the page is rendered and again for the rendered page, since the registry may be modified meanwhile.
+     */
+    private void checkVersion(String requested, RegistryVersion current) {
+        if (requested != null && !requested.equals(current.entityTag())) {
+            throw new ObjectConflictException("Registry version %s is no longer current, restart paging from the first page".formatted(requested));
+        }
+    }
+
+    /**
+     * Returns true if the {@code Accept-Encoding} header lists gzip without a zero quality value. A malformed quality
+     * value is ignored.
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (var coding : acceptEncoding.split(",")) {
+            var parameters = coding.split(";");
+            if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                for (var i = 1; i < parameters.length; i++) {
+                    var parameter = parameters[i].trim().replace(" ", "");
+                    if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private EntityTag entityTag(RegistryVersion version, boolean gzip) {
+        return new EntityTag(gzip ? version.entityTag() + GZIP_TAG_SUFFIX : version.entityTag());
     }
 
 }
@@ -14,96 +14,348 @@
 
 package org.eclipse.edc.registry.server.defaults;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registry.server.defaults.RegistrySnapshot.CachedPage;
+import org.eclipse.edc.registry.server.defaults.RegistrySnapshot.PageKey;
 import org.eclipse.edc.registry.server.spi.resource.ResourceTypeStore;
+import org.eclipse.edc.registry.server.spi.resource.ResourceXid;
+import org.eclipse.edc.registry.server.spi.store.RegistryPage;
 import org.eclipse.edc.registry.server.spi.store.RegistryStore;
-import org.eclipse.edc.registry.xregistry.model.definition.RegistryDefinition;
+import org.eclipse.edc.registry.server.spi.store.RegistryVersion;
+import org.eclipse.edc.registry.server.spi.store.RenderedRegistryPage;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
 import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
 import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
-import org.eclipse.edc.registry.xregistry.model.typed.TypeFactoryImpl;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedGroup;
 import org.eclipse.edc.registry.xregistry.model.typed.TypedRegistry;
 import org.eclipse.edc.registry.xregistry.model.typed.TypedResource;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.edc.registry.xregistry.model.definition.RegistryConstants.EPOCH;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
 
 /**
  * Default implementation.
+ * <p>
+ * Registry metadata, i.e. the version and the registered stores, is published as an immutable {@link RegistrySnapshot}
+ * through an atomic reference. Readers never lock; writers derive the next snapshot from the
+ * current one and swap it in, retrying if another writer won. A new snapshot is published when a resource type store
+ * is registered or the revision of a registered store changes. Resource data is not part of the snapshot: pages are
+ * assembled from the resource type stores and cached with the snapshot, so that reads of an unchanged registry do not
+ * access the stores. A page is only cached if no store changed while it was assembled. Assembled pages and their JSON
+ * serializations are cached per snapshot if they are canonical, i.e. reached by following {@code next} links from the
+ * first page, which means the offset is a multiple of the page size. The cache of a snapshot is bounded by the size of
+ * the rendered pages.
+ * <p>
+ * Writes are delegated to the store registered for the resource type, which is responsible for its own locking. A
+ * successful write advances the epochs of the resource and its group and publishes a snapshot advancing the registry
+ * epoch. Group and resource epochs are tracked by xid in a concurrent map next to the snapshot, so that writers only
+ * contend on the entities they modify. A created resource starts at epoch 1, and an entity modified for the first time
+ * advances from the initial epoch 1 to 2. Deleting a resource discards its epoch.
+ * <p>
+ * Epochs are held in memory only. They are not persisted with the resource type stores, so after a restart groups and
+ * resources report the epochs stored with their data until they are modified again.
  */
 public class DefaultRegistryStore implements RegistryStore {
     private static final String DEFAULT_REGISTRY_NAME = "edc-registry";
     private static final String REGISTRY_XID = "/registry";
-    private final RegistrySpecification specification;
+    private static final long MAX_CACHED_BYTES = 16 * 1024 * 1024;
 
-    private TypeFactory typeFactory;
-    private RegistryDefinition registryDefinition;
-
-    private Instant created;
+    private final RegistrySpecification specification;
+    private final TypeFactory typeFactory;
+    private final ObjectMapper mapper;
 
-    private Map<Class<?>, ResourceTypeStore<?>> cache = new HashMap<>();
+    private final Instant created;
+    private final AtomicReference<RegistrySnapshot> snapshot;
+    private final Map<String, Integer> epochs = new ConcurrentHashMap<>();
 
-    public DefaultRegistryStore(RegistrySpecification specification) {
-        this.specification = specification;
-        typeFactory = new TypeFactoryImpl();
-        registryDefinition = RegistryDefinition.Builder.newInstance().build();
+    public DefaultRegistryStore(RegistrySpecification specification, TypeFactory typeFactory, ObjectMapper mapper) {
+        this.specification = requireNonNull(specification, "specification");
+        this.typeFactory = requireNonNull(typeFactory, "typeFactory");
+        this.mapper = requireNonNull(mapper, "mapper");
         created = Instant.now();
+        snapshot = new AtomicReference<>(RegistrySnapshot.initial(created));
     }
 
     @Override
     public void register(ResourceTypeStore<?> store) {
-        cache.put(store.getType(), store);
+        snapshot.updateAndGet(current -> current.register(store, Instant.now()));
     }
 
     @Override
-    public @NotNull Map<String, Object> fetch(int offset, int maxResults) {
+    public @NotNull RegistryVersion version() {
+        return current().version();
+    }
+
+    @Override
+    public @NotNull RegistryPage fetch(int offset, int maxResults) {
+        return page(offset, maxResults).page();
+    }
+
+    @Override
+    public @NotNull RenderedRegistryPage render(int offset, int maxResults) {
+        return page(offset, maxResults).rendered();
+    }
+
+    @Override
+    public ServiceResult<Void> createResource(TypedResource<?> resource) {
+        var xid = ResourceXid.parse(resource.getXid());
+        var store = storeFor(resource);
+        var invalid = validateWrite(resource, xid, store);
+        if (invalid != null) {
+            return invalid;
+        }
+        var result = create(store, resource);
+        if (result.succeeded()) {
+            created(xid.groupXid(), xid.toString());
+        }
+        return result;
+    }
+
+    @Override
+    public ServiceResult<Void> updateResource(TypedResource<?> resource) {
+        var xid = ResourceXid.parse(resource.getXid());
+        var store = storeFor(resource);
+        var invalid = validateWrite(resource, xid, store);
+        if (invalid != null) {
+            return invalid;
+        }
+        var result = update(store, resource);
+        if (result.succeeded()) {
+            modified(xid.groupXid(), xid.toString());
+        }
+        return result;
+    }
+
+    @Override
+    public ServiceResult<Void> deleteResource(String id) {
+        var xid = ResourceXid.parse(id);
+        if (xid == null) {
+            return ServiceResult.badRequest("Invalid resource xid: " + id);
+        }
+        for (var store : current().stores().values()) {
+            var result = store.deleteResource(id);
+            if (result.succeeded()) {
+                deleted(xid.groupXid(), xid.toString());
+                return result;
+            }
+            if (result.reason() != NOT_FOUND) {
+                return result;
+            }
+        }
+        return ServiceResult.notFound("Resource not found: " + id);
+    }
+
+    /**
+     * Publishes the next snapshot after a resource was created in its group in a resource type store. The registry and
+     * group epochs are incremented and the resource starts at epoch 1.
+     */
+    void created(String groupXid, String resourceXid) {
+        epochs.put(resourceXid, 1);
+        advance(groupXid);
+        publish();
+    }
+
+    /**
+     * Publishes the next snapshot after the groups and resources identified by the xids were modified in a resource
+     * type store. The registry epoch and the epochs of the modified entities are incremented.
+     */
+    void modified(String... xids) {
+        for (var xid : xids) {
+            advance(xid);
+        }
+        publish();
+    }
+
+    /**
+     * Publishes the next snapshot after a resource was deleted from its group in a resource type store. The registry
+     * and group epochs are incremented and the resource epoch is discarded.
+     */
+    void deleted(String groupXid, String resourceXid) {
+        epochs.remove(resourceXid);
+        advance(groupXid);
+        publish();
+    }
+
+    /**
+     * Returns the xid of a group.
+     */
+    static String groupXid(GroupDefinition definition, String groupId) {
+        return "/" + definition.getPlural() + "/" + groupId;
+    }
+
+    /**
+     * Returns the xid of a resource.
+     */
+    static String resourceXid(GroupDefinition groupDefinition, String groupId, ResourceDefinition definition, String resourceId) {
+        return new ResourceXid(groupDefinition.getPlural(), groupId, definition.getPlural(), resourceId).toString();
+    }
+
+    /**
+     * Returns the failure of a write that cannot be performed, or null if the resource has a valid xid and a store is
+     * registered for its type.
+     */
+    @Nullable
+    private static ServiceResult<Void> validateWrite(TypedResource<?> resource, @Nullable ResourceXid xid, @Nullable ResourceTypeStore<?> store) {
+        if (xid == null) {
+            return ServiceResult.badRequest("Invalid resource xid: " + resource.getXid());
+        }
+        if (store == null) {
+            return ServiceResult.badRequest("No store registered for resource type: " + resource.getDefinition().getSingular());
+        }
+        return null;
+    }
+
+    private static <T extends TypedResource<?>> ServiceResult<Void> create(ResourceTypeStore<T> store, TypedResource<?> resource) {
+        return store.createResource(store.getType().cast(resource));
+    }
+
+    private static <T extends TypedResource<?>> ServiceResult<Void> update(ResourceTypeStore<T> store, TypedResource<?> resource) {
+        return store.updateResource(store.getType().cast(resource));
+    }
+
+    /**
+     * Increments the epoch of the group or resource with the xid. An entity without a recorded epoch has the initial
+     * epoch 1 and advances to 2.
+     */
+    private void advance(String xid) {
+        epochs.merge(xid, 2, (current, initial) -> current + 1);
+    }
+
+    private void publish() {
+        var modifiedAt = Instant.now();
+        snapshot.updateAndGet(current -> current.modify(current.currentRevision(), modifiedAt));
+    }
+
+    @Nullable
+    private ResourceTypeStore<?> storeFor(TypedResource<?> resource) {
+        var currentStores = current().stores();
+        var store = currentStores.get(resource.getClass());
+        if (store != null) {
+            return store;
+        }
+        return currentStores.values().stream()
+                .filter(candidate -> candidate.getType() != null && candidate.getType().isInstance(resource))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Returns the current snapshot, publishing a new one first if the revision of a store has changed.
+     */
+    private RegistrySnapshot current() {
+        var current = snapshot.get();
+        var revision = current.currentRevision();
+        while (revision != current.revision()) {
+            var next = current.modify(revision, Instant.now());
+            if (snapshot.compareAndSet(current, next)) {
+                return next;
+            }
+            current = snapshot.get();
+            revision = current.currentRevision();
+        }
+        return current;
+    }
+
+    /**
+     * Returns the cached page of the current snapshot, assembling and rendering it if it is not cached. Only canonical
+     * pages are cached.
+     */
+    private CachedPage page(int offset, int maxResults) {
+        var current = current();
+        var key = new PageKey(offset, maxResults);
+        var cached = current.cached(key);
+        if (cached != null) {
+            return cached;
+        }
+        var page = assemble(current, offset, maxResults);
+        cached = new CachedPage(page, new RenderedRegistryPage(serialize(page.registry()), page.hasMore(), current.version()));
+        if (offset % maxResults != 0 || current.currentRevision() != current.revision()) {
+            return cached;
+        }
+        return current.cache(key, cached, MAX_CACHED_BYTES);
+    }
+
+    private RegistryPage assemble(RegistrySnapshot current, int offset, int maxResults) {
         var registry = TypedRegistry.Builder.newInstance()
-                .definition(registryDefinition)
+                .definition(specification.getRegistryDefinition())
                 .untyped(new LinkedHashMap<>())
                 .typeFactory(typeFactory);
 
-        configureRegistry(registry);
+        configureRegistry(registry, current.version());
 
+        var currentStores = current.stores().values();
         var groupCounts = new HashMap<String, AtomicInteger>();
         var groupUrls = new HashMap<String, String>();
-        cache.values().stream()
+        currentStores.stream()
                 .flatMap(store -> store.fetchGroups(offset, maxResults).stream())
+                .map(typedGroup -> epochs.isEmpty() ? typedGroup : stampEpochs(typedGroup))
                 .forEach(typedGroup -> {
-                    var plural = typedGroup.getDefinition().getPlural();
-                    groupCounts.computeIfAbsent(plural + "count", k -> new AtomicInteger()).incrementAndGet();
-                    groupUrls.put(plural + "url", "#/" + plural);
+                    var groupDefinition = typedGroup.getDefinition();
+                    groupCounts.computeIfAbsent(groupDefinition.getCountKey(), k -> new AtomicInteger()).incrementAndGet();
+                    if (!groupUrls.containsKey(groupDefinition.getUrlKey())) {
+                        groupUrls.put(groupDefinition.getUrlKey(), "#/" + groupDefinition.getPlural());
+                    }
                     registry.group(typedGroup);
                 });
         groupCounts.forEach((key, count) -> registry.set(key, count.intValue()));
         groupUrls.forEach(registry::set);
-        return registry.build().asMap();
-    }
-
-    @Override
-    public ServiceResult<Void> createResource(TypedResource<?> resource) {
-        throw new UnsupportedOperationException();
+        var hasMore = currentStores.stream().anyMatch(store -> (long) offset + maxResults < store.resourceCount());
+        return new RegistryPage(unmodifiableMap(registry.build().asMap()), hasMore, current.version());
     }
 
-    @Override
-    public ServiceResult<Void> updateResource(TypedResource<?> resource) {
-        throw new UnsupportedOperationException();
+    /**
+     * Sets the recorded epochs on the group and its resources. Modified resources are copied so that
+     * data owned by the resource type store is not changed.
+     */
+    private TypedGroup stampEpochs(TypedGroup group) {
+        var groupXid = groupXid(group.getDefinition(), group.getId());
+        var builder = group.toBuilder();
+        var groupEpoch = epochs.getOrDefault(groupXid, 0);
+        if (groupEpoch > 0) {
+            builder.epoch(groupEpoch);
+        }
+        for (var resource : group.getResources().values()) {
+            var resourceEpoch = epochs.getOrDefault(resourceXid(group.getDefinition(), group.getId(), resource.getDefinition(), resource.getId()), 0);
+            if (resourceEpoch > 0) {
+                var untyped = new LinkedHashMap<>(resource.asMap());
+                untyped.put(EPOCH, resourceEpoch);
+                builder.resource(typeFactory.instantiate(untyped, resource.getDefinition()));
+            }
+        }
+        return builder.build();
     }
 
-    @Override
-    public ServiceResult<Void> deleteResource(String id) {
-        throw new UnsupportedOperationException();
+    private byte[] serialize(Map<String, Object> registry) {
+        try {
+            return mapper.writeValueAsBytes(registry);
+        } catch (JsonProcessingException e) {
+            throw new EdcException("Unable to serialize registry", e);
+        }
     }
 
-    private void configureRegistry(TypedRegistry.Builder registry) {
+    private void configureRegistry(TypedRegistry.Builder registry, RegistryVersion version) {
         registry.id(DEFAULT_REGISTRY_NAME)
                 .self(specification.getUrl())
                 .url(specification.getUrl())
-                .epoch(1)  // TODO FIXME
+                .epoch(version.epoch())
                 .createdAt(created)
-                .modifiedAt(created)
+                .modifiedAt(version.modifiedAt())
                 .xid(REGISTRY_XID)
         ;
     }
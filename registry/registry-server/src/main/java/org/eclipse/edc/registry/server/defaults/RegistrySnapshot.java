@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.server.defaults;
+
+import org.eclipse.edc.registry.server.spi.resource.ResourceTypeStore;
+import org.eclipse.edc.registry.server.spi.store.RegistryPage;
+import org.eclipse.edc.registry.server.spi.store.RegistryVersion;
+import org.eclipse.edc.registry.server.spi.store.RenderedRegistryPage;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The registry metadata published by the {@link DefaultRegistryStore}: the registry version, the registered stores and
+ * the sum of the store revisions the version reflects.
+ * <p>
+ * A snapshot does not capture resource data or the group and resource epochs, which remain in the resource type stores
+ * and the registry store. Pages are assembled from the stores and may include writes that completed while they were
+ * assembled. The metadata is never modified once published; changes produce the next snapshot, which carries the next
+ * registry version. The only mutable part is the cache of pages rendered for the version, which is discarded with the
+ * snapshot.
+ */
+final class RegistrySnapshot {
+    private final RegistryVersion version;
+    private final long revision;
+    private final Map<Class<?>, ResourceTypeStore<?>> stores;
+    private final Map<PageKey, CachedPage> pages = new ConcurrentHashMap<>();
+    private final AtomicLong cachedBytes = new AtomicLong();
+
+    private RegistrySnapshot(RegistryVersion version, long revision, Map<Class<?>, ResourceTypeStore<?>> stores) {
+        this.version = version;
+        this.revision = revision;
+        this.stores = stores;
+    }
+
+    /**
+     * Returns the first snapshot of an empty registry.
+     */
+    static RegistrySnapshot initial(Instant created) {
+        return new RegistrySnapshot(new RegistryVersion(1, created), 0, Map.of());
+    }
+
+    RegistryVersion version() {
+        return version;
+    }
+
+    /**
+     * Returns the sum of the store revisions this snapshot reflects.
+     */
+    long revision() {
+        return revision;
+    }
+
+    /**
+     * Returns the current sum of the revisions of the registered stores, which changes whenever a store changes.
+     */
+    long currentRevision() {
+        return revision(stores.values());
+    }
+
+    Map<Class<?>, ResourceTypeStore<?>> stores() {
+        return stores;
+    }
+
+    /**
+     * Returns the cached page rendered from this snapshot, or null if it is not cached.
+     */
+    @Nullable
+    CachedPage cached(PageKey key) {
+        return pages.get(key);
+    }
+
+    /**
+     * Caches the page unless the rendered pages would exceed the size limit.
+     *
+     * @return the cached page, which is the given page unless another thread has cached the page first
+     */
+    CachedPage cache(PageKey key, CachedPage page, long maxBytes) {
+        var size = page.rendered().json().length;
+        if (cachedBytes.addAndGet(size) > maxBytes) {
+            cachedBytes.addAndGet(-size);
+            return page;
+        }
+        var existing = pages.putIfAbsent(key, page);
+        if (existing != null) {
+            cachedBytes.addAndGet(-size);
+            return existing;
+        }
+        return page;
+    }
+
+    /**
+     * Returns the next snapshot with the store registered.
+     */
+    RegistrySnapshot register(ResourceTypeStore<?> store, Instant modifiedAt) {
+        var updated = new HashMap<>(stores);
+        updated.put(store.getType(), store);
+        return new RegistrySnapshot(version.next(modifiedAt), revision(updated.values()), unmodifiableMap(updated));
+    }
+
+    /**
+     * Returns the next snapshot reflecting a change of the store revisions.
+     */
+    RegistrySnapshot modify(long revision, Instant modifiedAt) {
+        return new RegistrySnapshot(version.next(modifiedAt), revision, stores);
+    }
+
+    private static long revision(Collection<ResourceTypeStore<?>> stores) {
+        var revision = 0L;
+        for (var store : stores) {
+            revision += store.revision();
+        }
+        return revision;
+    }
+
+    /**
+     * Identifies a rendered page.
+     */
+    record PageKey(int offset, int maxResults) {
+    }
+
+    /**
+     * A page and its rendered form.
+     */
+    record CachedPage(RegistryPage page, RenderedRegistryPage rendered) {
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.server.defaults;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registry.server.spi.resource.ResourceTypeStore;
+import org.eclipse.edc.registry.server.spi.store.RenderedRegistryPage;
+import org.eclipse.edc.registry.xregistry.model.definition.GroupDefinition;
+import org.eclipse.edc.registry.xregistry.model.definition.RegistrySpecification;
+import org.eclipse.edc.registry.xregistry.model.definition.ResourceDefinition;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactory;
+import org.eclipse.edc.registry.xregistry.model.typed.TypeFactoryImpl;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedGroup;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedResource;
+import org.eclipse.edc.registry.xregistry.model.typed.TypedVersion;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultRegistryStoreTest {
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    private static final ResourceDefinition RESOURCE_DEFINITION = ResourceDefinition.Builder.newInstance()
+            .singular("foo")
+            .plural("foos")
+            .build();
+    private static final GroupDefinition GROUP_DEFINITION = GroupDefinition.Builder.newInstance()
+            .singular("foogroup")
+            .plural("foogroups")
+            .resource(RESOURCE_DEFINITION)
+            .build();
+
+    private DefaultRegistryStore registryStore;
+    private ResourceTypeStore<?> resourceTypeStore;
+
+    @Test
+    void verify_hasMore() {
+        when(resourceTypeStore.resourceCount()).thenReturn(25);
+
+        assertThat(registryStore.fetch(0, 10).hasMore()).isTrue();
+        assertThat(registryStore.fetch(10, 10).hasMore()).isTrue();
+        assertThat(registryStore.fetch(20, 10).hasMore()).isFalse();
+        verify(resourceTypeStore).fetchGroups(20, 10);
+    }
+
+    @Test
+    void verify_unboundedFetch() {
+        when(resourceTypeStore.resourceCount()).thenReturn(25);
+
+        var page = registryStore.fetch(10, Integer.MAX_VALUE);
+
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.registry()).containsKey("registryid");
+    }
+
+    @Test
+    void verify_versionReflectedInRegistry() {
+        var version = registryStore.version();
+
+        var page = registryStore.fetch(0, Integer.MAX_VALUE);
+
+        assertThat(page.version()).isEqualTo(version);
+        assertThat(page.registry()).containsEntry("epoch", version.epoch());
+        assertThat(page.version().entityTag()).isEqualTo(version.epoch() + "-" + version.modifiedAt().toEpochMilli());
+    }
+
+    @Test
+    void verify_registerAdvancesVersion() {
+        var version = registryStore.version();
+
+        registryStore.register(mock(ResourceTypeStore.class));
+
+        assertThat(registryStore.version().epoch()).isEqualTo(version.epoch() + 1);
+        assertThat(registryStore.version().entityTag()).isNotEqualTo(version.entityTag());
+    }
+
+    @Test
+    void verify_renderCachedUntilVersionChanges() {
+        var rendered = registryStore.render(0, 10);
+
+        assertThat(registryStore.render(0, 10)).isSameAs(rendered);
+        assertThat(registryStore.fetch(0, 10).version()).isEqualTo(rendered.version());
+        verify(resourceTypeStore, times(1)).fetchGroups(0, 10);
+
+        when(resourceTypeStore.revision()).thenReturn(1L);
+
+        var updated = registryStore.render(0, 10);
+        assertThat(updated).isNotSameAs(rendered);
+        assertThat(updated.version().epoch()).isEqualTo(rendered.version().epoch() + 1);
+        verify(resourceTypeStore, times(2)).fetchGroups(0, 10);
+    }
+
+    @Test
+    void verify_onlyCanonicalPagesCached() {
+        var rendered = registryStore.render(5, 10);
+
+        assertThat(registryStore.render(5, 10)).isNotSameAs(rendered);
+        assertThat(registryStore.render(20, 10)).isSameAs(registryStore.render(20, 10));
+        verify(resourceTypeStore, times(2)).fetchGroups(5, 10);
+        verify(resourceTypeStore, times(1)).fetchGroups(20, 10);
+    }
+
+    @Test
+    void verify_renderedJson() throws IOException {
+        var rendered = registryStore.render(0, Integer.MAX_VALUE);
+
+        var registry = new ObjectMapper().readValue(rendered.json(), MAP_TYPE);
+        assertThat(registry).containsEntry("registryid", "edc-registry");
+        assertThat(registry).containsEntry("epoch", (int) rendered.version().epoch());
+        try (var stream = new GZIPInputStream(new ByteArrayInputStream(rendered.gzipped()))) {
+            assertThat(stream.readAllBytes()).isEqualTo(rendered.json());
+        }
+        assertThat(rendered.gzipped()).isSameAs(rendered.gzipped());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_modifiedAdvancesEntityEpochs() {
+        var typeFactory = new TypeFactoryImpl();
+        typeFactory.registerResource("foo", FooResource::new);
+        var store = new DefaultRegistryStore(new RegistrySpecification("https://test.com"), typeFactory, new ObjectMapper());
+        var groupStore = mock(ResourceTypeStore.class);
+        when(groupStore.fetchGroups(anyInt(), anyInt())).thenAnswer(invocation -> List.of(createGroup(typeFactory)));
+        store.register(groupStore);
+        var version = store.version();
+
+        store.modified(DefaultRegistryStore.groupXid(GROUP_DEFINITION, "group1"),
+                DefaultRegistryStore.resourceXid(GROUP_DEFINITION, "group1", RESOURCE_DEFINITION, "foo1"));
+        store.modified(DefaultRegistryStore.resourceXid(GROUP_DEFINITION, "group1", RESOURCE_DEFINITION, "foo1"));
+
+        var page = store.fetch(0, 10);
+        assertThat(page.version().epoch()).isEqualTo(version.epoch() + 2);
+        var group = (Map<String, Object>) ((Map<String, Object>) page.registry().get("foogroups")).get("group1");
+        assertThat(group).containsEntry("epoch", 2);
+        var foos = (Map<String, Map<String, Object>>) group.get("foos");
+        assertThat(foos.get("foo1")).containsEntry("epoch", 3);
+        assertThat(foos.get("foo2")).containsEntry("epoch", 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_deleteDiscardsResourceEpoch() {
+        var typeFactory = new TypeFactoryImpl();
+        typeFactory.registerResource("foo", FooResource::new);
+        var store = new DefaultRegistryStore(new RegistrySpecification("https://test.com"), typeFactory, new ObjectMapper());
+        var groupStore = mock(ResourceTypeStore.class);
+        when(groupStore.fetchGroups(anyInt(), anyInt())).thenAnswer(invocation -> List.of(createGroup(typeFactory)));
+        when(groupStore.deleteResource(any())).thenReturn(ServiceResult.success());
+        store.register(groupStore);
+        var fooXid = DefaultRegistryStore.resourceXid(GROUP_DEFINITION, "group1", RESOURCE_DEFINITION, "foo1");
+        store.modified(fooXid);
+
+        assertThat(store.deleteResource(fooXid).succeeded()).isTrue();
+
+        var group = (Map<String, Object>) ((Map<String, Object>) store.fetch(0, 10).registry().get("foogroups")).get("group1");
+        assertThat(group).containsEntry("epoch", 2);
+        assertThat(((Map<String, Map<String, Object>>) group.get("foos")).get("foo1")).containsEntry("epoch", 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_createdResourceStartsAtFirstEpoch() {
+        var typeFactory = new TypeFactoryImpl();
+        typeFactory.registerResource("foo", FooResource::new);
+        var store = new DefaultRegistryStore(new RegistrySpecification("https://test.com"), typeFactory, new ObjectMapper());
+        var groupStore = mock(ResourceTypeStore.class);
+        when(groupStore.fetchGroups(anyInt(), anyInt())).thenAnswer(invocation -> List.of(createGroup(typeFactory)));
+        store.register(groupStore);
+        var groupXid = DefaultRegistryStore.groupXid(GROUP_DEFINITION, "group1");
+        var fooXid = DefaultRegistryStore.resourceXid(GROUP_DEFINITION, "group1", RESOURCE_DEFINITION, "foo1");
+
+        store.created(groupXid, fooXid);
+
+        var group = (Map<String, Object>) ((Map<String, Object>) store.fetch(0, 10).registry().get("foogroups")).get("group1");
+        assertThat(group).containsEntry("epoch", 2);
+        assertThat(((Map<String, Map<String, Object>>) group.get("foos")).get("foo1")).containsEntry("epoch", 1);
+
+        store.modified(groupXid, fooXid);
+
+        group = (Map<String, Object>) ((Map<String, Object>) store.fetch(0, 10).registry().get("foogroups")).get("group1");
+        assertThat(group).containsEntry("epoch", 3);
+        assertThat(((Map<String, Map<String, Object>>) group.get("foos")).get("foo1")).containsEntry("epoch", 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_writesRoutedToStore() {
+        var typeFactory = new TypeFactoryImpl();
+        var fooStore = (ResourceTypeStore<FooResource>) mock(ResourceTypeStore.class);
+        when(fooStore.getType()).thenReturn(FooResource.class);
+        when(fooStore.createResource(any())).thenReturn(ServiceResult.success());
+        when(fooStore.deleteResource(any())).thenReturn(ServiceResult.notFound("not found"));
+        when(resourceTypeStore.deleteResource(any())).thenReturn(ServiceResult.notFound("not found"));
+        registryStore.register(fooStore);
+        var version = registryStore.version();
+        var resource = new FooResource(new HashMap<>(Map.of("fooid", "foo1", "xid", "/foogroups/group1/foos/foo1")), RESOURCE_DEFINITION, typeFactory);
+
+        assertThat(registryStore.createResource(resource).succeeded()).isTrue();
+
+        verify(fooStore).createResource(resource);
+        assertThat(registryStore.version().epoch()).isEqualTo(version.epoch() + 1);
+        assertThat(registryStore.deleteResource("/foogroups/group1/foos/foo1").reason()).isEqualTo(NOT_FOUND);
+        assertThat(registryStore.deleteResource("foo1").reason()).isEqualTo(BAD_REQUEST);
+        assertThat(registryStore.version().epoch()).isEqualTo(version.epoch() + 1);
+    }
+
+    @Test
+    void verify_concurrentReadsShareSnapshot() throws Exception {
+        when(resourceTypeStore.resourceCount()).thenReturn(25);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var tasks = IntStream.range(0, 16)
+                    .mapToObj(i -> (Callable<RenderedRegistryPage>) () -> registryStore.render(0, 10))
+                    .toList();
+            var pages = new ArrayList<RenderedRegistryPage>();
+            for (var future : executor.invokeAll(tasks)) {
+                pages.add(future.get());
+            }
+            assertThat(pages).extracting(RenderedRegistryPage::version).containsOnly(registryStore.version());
+            assertThat(pages).extracting(RenderedRegistryPage::json).allMatch(json -> Arrays.equals(json, pages.get(0).json()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        registryStore = new DefaultRegistryStore(new RegistrySpecification("https://test.com"), new TypeFactoryImpl(), new ObjectMapper());
+        resourceTypeStore = mock(ResourceTypeStore.class);
+        registryStore.register(resourceTypeStore);
+    }
+
+    private TypedGroup createGroup(TypeFactoryImpl typeFactory) {
+        var foos = new HashMap<String, Object>();
+        foos.put("foo1", new HashMap<>(Map.of("fooid", "foo1", "epoch", 1)));
+        foos.put("foo2", new HashMap<>(Map.of("fooid", "foo2", "epoch", 1)));
+        var untyped = new HashMap<String, Object>();
+        untyped.put("foogroupid", "group1");
+        untyped.put("epoch", 1);
+        untyped.put("foos", foos);
+        return TypedGroup.Builder.newInstance()
+                .untyped(untyped)
+                .definition(GROUP_DEFINITION)
+                .typeFactory(typeFactory)
+                .build();
+    }
+
+    private static class FooResource extends TypedResource<TypedVersion> {
+        FooResource(Map<String, Object> untyped, ResourceDefinition definition, TypeFactory typeFactory) {
+            super(untyped, definition, typeFactory);
+        }
+
+        @Override
+        protected TypedVersion createVersion(Map<String, Object> untypedVersion) {
+            throw new UnsupportedOperationException("Versions are not used by this test");
+        }
+    }
+}
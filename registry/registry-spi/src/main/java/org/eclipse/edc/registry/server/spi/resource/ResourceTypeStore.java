@@ -35,16 +35,45 @@ public interface ResourceTypeStore<T extends TypedResource<?>> {
 
     /**
      * Returns group data.
+     * <p>
+     * Pagination is performed over the resources managed by the store ordered by group and resource id. The returned
+     * groups contain only the resources within the requested range, so a group may span multiple pages. Groups without
+     * resources are returned with the first page.
      *
      * @param offset     the pagination offset
-     * @param maxResults the maximum number of resources to include in each group.
+     * @param maxResults the maximum number of resources to return.
      */
     @NotNull
     Collection<TypedGroup> fetchGroups(int offset, int maxResults);
 
+    /**
+     * Returns the total number of resources managed by the store.
+     */
+    int resourceCount();
+
+    /**
+     * Returns a counter that is incremented whenever the content of the store changes. Registry stores compare
+     * revisions to detect changes; stores whose content never changes may return a constant.
+     */
+    default long revision() {
+        return 0;
+    }
+
+    /**
+     * Creates the resource. The resource is located by its xid, see {@link ResourceXid}; its group is created if it
+     * does not exist. Fails with a conflict if the resource exists.
+     */
     ServiceResult<Void> createResource(T resource);
 
+    /**
+     * Replaces the resource located by its xid. Fails if the resource does not exist.
+     */
     ServiceResult<Void> updateResource(T resource);
 
+    /**
+     * Deletes the resource.
+     *
+     * @param id the xid of the resource
+     */
     ServiceResult<Void> deleteResource(String id);
 }
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.server.spi.resource;
+
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The parsed xid of a resource, {@code /<groups>/<groupid>/<resources>/<resourceid>}.
+ *
+ * @param groupsName    the plural name of the group type
+ * @param groupId       the group id
+ * @param resourcesName the plural name of the resource type
+ * @param resourceId    the resource id
+ */
+public record ResourceXid(String groupsName, String groupId, String resourcesName, String resourceId) {
+
+    public ResourceXid {
+        requireNonNull(groupsName, "groupsName");
+        requireNonNull(groupId, "groupId");
+        requireNonNull(resourcesName, "resourcesName");
+        requireNonNull(resourceId, "resourceId");
+    }
+
+    /**
+     * Parses a resource xid. Returns null if the value is not a resource xid.
+     */
+    @Nullable
+    public static ResourceXid parse(@Nullable String xid) {
+        if (xid == null || !xid.startsWith("/")) {
+            return null;
+        }
+        var segments = xid.substring(1).split("/", -1);
+        if (segments.length != 4) {
+            return null;
+        }
+        for (var segment : segments) {
+            if (segment.isEmpty()) {
+                return null;
+            }
+        }
+        return new ResourceXid(segments[0], segments[1], segments[2], segments[3]);
+    }
+
+    /**
+     * Returns the xid of the group containing the resource.
+     */
+    public String groupXid() {
+        return "/" + groupsName + "/" + groupId;
+    }
+
+    @Override
+    public String toString() {
+        return groupXid() + "/" + resourcesName + "/" + resourceId;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.server.spi.store;
+
+import java.util.Map;
+
+/**
+ * A page of registry data.
+ *
+ * @param registry the registry document containing the resources of the page
+ * @param hasMore  true if resources exist beyond this page
+ * @param version  the version of the registry the page was read from
+ */
+public record RegistryPage(Map<String, Object> registry, boolean hasMore, RegistryVersion version) {
+}
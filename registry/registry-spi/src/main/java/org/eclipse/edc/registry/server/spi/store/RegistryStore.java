@@ -19,8 +19,6 @@ import org.eclipse.edc.registry.xregistry.model.typed.TypedResource;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
-
 /**
  * Manages resource persistence.
  * <p>
@@ -34,16 +32,32 @@ public interface RegistryStore {
     void register(ResourceTypeStore<?> store);
 
     /**
-     * Returns the registry.
+     * Returns a page of the registry. Pagination is applied to the resources of each registered {@link ResourceTypeStore}.
+     *
+     * @param offset     the pagination offset
+     * @param maxResults the maximum number of resources to include per resource type.
+     */
+    @NotNull
+    RegistryPage fetch(int offset, int maxResults);
+
+    /**
+     * Returns a page of the registry serialized as JSON. Pagination is applied as for {@link #fetch(int, int)}.
+     * Implementations may return the same rendered page until the registry version changes.
      *
      * @param offset     the pagination offset
-     * @param maxResults the maximum number of resources to include in each group.
+     * @param maxResults the maximum number of resources to include per resource type.
+     */
+    @NotNull
+    RenderedRegistryPage render(int offset, int maxResults);
+
+    /**
+     * Returns the current version of the registry. The version changes whenever registry content is modified.
      */
     @NotNull
-    Map<String, Object> fetch(int offset, int maxResults);
+    RegistryVersion version();
 
     /**
-     * Persists the resource.
+     * Persists the resource in the store registered for its type.
      */
     ServiceResult<Void> createResource(TypedResource<?> resource);
 
@@ -54,6 +68,8 @@ public interface RegistryStore {
 
     /**
      * Deletes a resource
+     *
+     * @param id the xid of the resource
      */
     ServiceResult<Void> deleteResource(String id);
 
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.server.spi.store;
+
+import java.time.Instant;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Identifies the state of a registry. The epoch is incremented each time the registry content changes.
+ *
+ * @param epoch      the registry epoch
+ * @param modifiedAt the time of the last modification
+ */
+public record RegistryVersion(int epoch, Instant modifiedAt) {
+
+    public RegistryVersion {
+        requireNonNull(modifiedAt, "modifiedAt");
+    }
+
+    /**
+     * Returns the opaque entity tag value for this version.
+     */
+    public String entityTag() {
+        return epoch + "-" + modifiedAt.toEpochMilli();
+    }
+
+    /**
+     * Returns the version following this one.
+     */
+    public RegistryVersion next(Instant modifiedAt) {
+        return new RegistryVersion(epoch + 1, modifiedAt);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registry.server.spi.store;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A page of registry data serialized as a JSON document.
+ * <p>
+ * Rendered pages are immutable and may be served to any number of clients. The gzip encoding of the document is computed
+ * on first access and retained. The returned arrays are shared and must not be modified.
+ */
+public final class RenderedRegistryPage {
+    private final byte[] json;
+    private final boolean hasMore;
+    private final RegistryVersion version;
+    private volatile byte[] gzipped;
+
+    /**
+     * Creates a page.
+     *
+     * @param json    the UTF-8 encoded registry document. The array is not copied.
+     * @param hasMore true if resources exist beyond this page
+     * @param version the version of the registry the page was rendered from
+     */
+    public RenderedRegistryPage(byte[] json, boolean hasMore, RegistryVersion version) {
+        this.json = requireNonNull(json, "json");
+        this.hasMore = hasMore;
+        this.version = requireNonNull(version, "version");
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * Returns the gzip encoded registry document.
+     */
+    public byte[] gzipped() {
+        var current = gzipped;
+        if (current == null) {
+            current = gzip(json);
+            gzipped = current;
+        }
+        return current;
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    public RegistryVersion version() {
+        return version;
+    }
+
+    private static byte[] gzip(byte[] content) {
+        var stream = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (var gzip = new GZIPOutputStream(stream)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stream.toByteArray();
+    }
+}
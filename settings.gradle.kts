@@ -35,7 +35,9 @@ include(":reconciler:reconciler-policy")
 include(":registry:registry-spi")
 include(":registry:registry-server")
 include(":registry:registry-policy")
+include(":registry:registry-policy-store")
 include(":registry:registry-policy-memory")
+include(":registry:registry-policy-file")
 include(":registry:launcher")
 
 include(":tooling:xregistry-oci-plugin")
\ No newline at end of file